@@ -0,0 +1,133 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   ConnectionReuseBenchmark
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 10:10
+ * Description:    传输层连接复用 JMH 基准
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 10:10    1.0.0         传输层连接复用 JMH 基准
+ */
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 传输层连接复用 JMH 基准
+ * <p>
+ * 本地 HTTP 服务返回固定大小的响应，服务端按客户端地址统计实际建立的 TCP 连接数。
+ * {@code perCall} 重现改造前 {@code FileProcessor.getInputStreamByUrl} 的做法：每次请求新建 {@code HttpClients.createDefault()}
+ * （原实现从不关闭客户端，这里请求后关闭以免耗尽文件句柄，因此结果偏乐观）；其余三种为共享连接池的传输层实现。
+ * 每轮结束时打印请求数与连接数：
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -jar target/benchmarks.jar ConnectionReuseBenchmark
+ * java -jar target/benchmarks.jar ConnectionReuseBenchmark -p client=perCall,okhttp -p size=1048576
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 10:10
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ConnectionReuseBenchmark {
+
+    @Param({"perCall", "okhttp", "apache", "jdk"})
+    public String client;
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    private HttpServer server;
+
+    private String url;
+
+    private HttpTransport transport;
+
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong requests = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        // 内置服务端默认开启 Nagle，小响应在长连接上会叠加 40ms 延迟确认，掩盖客户端差异
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        final byte[] payload = new byte[size];
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 512);
+        server.createContext("/", exchange -> {
+            connections.add(exchange.getRemoteAddress());
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8, r -> {
+            final Thread thread = new Thread(r, "benchmark-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/resource";
+        transport = "perCall".equals(client) ? null : HttpTransports.of(client);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        System.out.printf("%n[%s] requests=%d connections=%d%n", client, requests.get(), connections.size());
+    }
+
+    @Benchmark
+    public void fetch(Blackhole blackhole) throws IOException {
+        if (null == transport) {
+            try (CloseableHttpClient httpClient = HttpClients.createDefault();
+                 CloseableHttpResponse response = httpClient.execute(new HttpGet(url))) {
+                blackhole.consume(EntityUtils.toByteArray(response.getEntity()));
+            }
+            return;
+        }
+        try (TransportResponse response = transport.execute(TransportRequest.get(url));
+             InputStream in = response.body()) {
+            blackhole.consume(in.readAllBytes());
+        }
+    }
+}
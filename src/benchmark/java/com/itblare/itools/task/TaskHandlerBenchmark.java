@@ -0,0 +1,144 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskHandlerBenchmark
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 17:40
+ * Description:    任务处理器 JMH 基准
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 17:40    1.0.0         任务处理器 JMH 基准
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 任务处理器 JMH 基准
+ * <p>
+ * 每次操作执行一批 {@code taskCount} 个任务并等待全部完成，对比各处理器与线程池组合在不同批量、
+ * 不同任务类型（CPU 密集的微任务 / 休眠模拟的 I/O 任务）下的吞吐与延迟分布；分配速率通过 gc profiler 获取：
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -jar target/benchmarks.jar TaskHandlerBenchmark -prof gc
+ * java -jar target/benchmarks.jar TaskHandlerBenchmark -p handler=virtual,fixed -p taskCount=10000 -p workload=io
+ * </pre>
+ * 大批量的 I/O 任务在固定线程池上单次操作可达数十秒，按需用 {@code -p} 缩小参数组合。
+ *
+ * @author Blare
+ * @create 2026/10/17 17:40
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskHandlerBenchmark {
+
+    /**
+     * CPU 微任务的计算量（Blackhole token）
+     */
+    private static final long CPU_TOKENS = 1_000L;
+
+    /**
+     * I/O 任务的休眠时间（纳秒）
+     */
+    private static final long IO_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Param({"thread", "fixed", "cached", "forkJoinPool", "virtual", "bounded", "forkJoin", "fairShare"})
+    public String handler;
+
+    @Param({"1", "100", "10000", "100000"})
+    public int taskCount;
+
+    @Param({"cpu", "io"})
+    public String workload;
+
+    private MultiTaskHandler taskHandler;
+
+    private ExecutorService service;
+
+    private Runnable[] tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        switch (handler) {
+            case "thread":
+                taskHandler = new TaskParallelHandler();
+                break;
+            case "fixed":
+                service = Executors.newFixedThreadPool(cpus);
+                taskHandler = new TaskParallelWithThreadPool(service);
+                break;
+            case "cached":
+                service = Executors.newCachedThreadPool();
+                taskHandler = new TaskParallelWithThreadPool(service);
+                break;
+            case "forkJoinPool":
+                service = new ForkJoinPool(cpus);
+                taskHandler = new TaskParallelWithThreadPool(service);
+                break;
+            case "virtual":
+                taskHandler = new TaskParallelWithVirtualThread();
+                break;
+            case "bounded":
+                service = Executors.newCachedThreadPool();
+                taskHandler = new TaskBoundedParallelHandler(cpus * 4, SubmitPolicy.BLOCK, service);
+                break;
+            case "forkJoin":
+                final ForkJoinPool pool = new ForkJoinPool(cpus);
+                service = pool;
+                taskHandler = new TaskForkJoinHandler(pool);
+                break;
+            case "fairShare":
+                final FairShareExecutor executor = new FairShareExecutor(cpus);
+                service = executor;
+                taskHandler = new TaskParallelWithThreadPool(executor.forGroup("benchmark"));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown handler: " + handler);
+        }
+        final Runnable task = "io".equals(workload)
+            ? () -> LockSupport.parkNanos(IO_NANOS)
+            : () -> Blackhole.consumeCPU(CPU_TOKENS);
+        tasks = new Runnable[taskCount];
+        Arrays.fill(tasks, task);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (null != service) {
+            service.shutdown();
+            service.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Benchmark
+    public void runBatch() {
+        taskHandler.run(tasks);
+    }
+}
@@ -0,0 +1,121 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskSpawnBenchmark
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 9:40
+ * Description:    任务派发延迟与内存占用基准
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 9:40    1.0.0         任务派发延迟与内存占用基准
+ */
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 任务派发延迟与内存占用基准
+ * <p>
+ * 对比 {@link TaskParallelHandler}（每任务新建平台线程）、{@link TaskParallelWithThreadPool}（固定线程池）
+ * 与 {@link TaskParallelWithVirtualThread} 的任务派发延迟（提交到开始执行）与常驻内存（RSS）。
+ * RSS 为进程级指标，建议每次只跑一种模式：
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -cp target/classes:... com.itblare.itools.task.TaskSpawnBenchmark virtual 10000 50
+ * </pre>
+ * 参数依次为：模式（thread | pool | virtual | all）、任务数、每个任务模拟 I/O 的休眠毫秒数。
+ *
+ * @author Blare
+ * @create 2026/10/17 9:40
+ * @since 1.0.0
+ */
+public class TaskSpawnBenchmark {
+
+    private static final List<String> MODES = Arrays.asList("thread", "pool", "virtual");
+
+    public static void main(String[] args) throws Exception {
+        final String mode = args.length > 0 ? args[0] : "all";
+        final int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        final long sleepMillis = args.length > 2 ? Long.parseLong(args[2]) : 50L;
+        System.out.printf("tasks=%d, sleep=%dms, virtualThreadSupported=%s%n",
+            tasks, sleepMillis, TaskParallelWithVirtualThread.isVirtualThreadSupported());
+        for (String m : "all".equals(mode) ? MODES : List.of(mode)) {
+            // 预热一轮，避免类加载与 JIT 干扰
+            run(m, Math.min(tasks, 1000), 1L, false);
+            run(m, tasks, sleepMillis, true);
+        }
+    }
+
+    private static void run(String mode, int tasks, long sleepMillis, boolean print) throws IOException {
+        ExecutorService pool = null;
+        final AbstractMultiTaskHandler handler;
+        switch (mode) {
+            case "thread":
+                handler = new TaskParallelHandler();
+                break;
+            case "pool":
+                pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8);
+                handler = new TaskParallelWithThreadPool(pool);
+                break;
+            case "virtual":
+                handler = new TaskParallelWithVirtualThread();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown mode: " + mode);
+        }
+        final long[] spawnNanos = new long[tasks];
+        final long[] runStart = new long[1];
+        final long begin = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            final int index = i;
+            handler.addTask(() -> {
+                spawnNanos[index] = System.nanoTime() - runStart[0];
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        final long added = System.nanoTime();
+        runStart[0] = added;
+        handler.run();
+        final long elapsed = System.nanoTime() - begin;
+        if (null != pool) {
+            pool.shutdown();
+        }
+        if (!print) {
+            return;
+        }
+        // 派发延迟：run() 开始到任务真正开始执行的时间
+        Arrays.sort(spawnNanos);
+        System.out.printf("%-8s total=%6dms addTask=%5dms spawn p50=%8.2fms p99=%8.2fms max=%8.2fms rss=%s hwm=%s%n",
+            mode,
+            elapsed / 1_000_000, (added - begin) / 1_000_000,
+            spawnNanos[tasks / 2] / 1e6, spawnNanos[(int) (tasks * 0.99)] / 1e6, spawnNanos[tasks - 1] / 1e6,
+            procStatus("VmRSS"), procStatus("VmHWM"));
+    }
+
+    /**
+     * 读取 /proc/self/status 中的内存指标，非 Linux 平台退化为堆内存占用
+     */
+    private static String procStatus(String key) throws IOException {
+        final Path status = Path.of("/proc/self/status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith(key + ":")) {
+                    return line.substring(key.length() + 1).trim();
+                }
+            }
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / 1024 + " kB(heap)";
+    }
+}
@@ -0,0 +1,52 @@
+package com.itblare.itools.exception;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.exception
+ * ClassName:   CircuitOpenException
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 14:00
+ * Description:    熔断异常
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 14:00    1.0.0         熔断异常
+ */
+
+import java.io.IOException;
+
+/**
+ * 熔断异常
+ * <p>
+ * 目标主机处于熔断状态时请求不发出、直接失败。OkHttp 拦截器只能抛出 {@link IOException}，
+ * 因此与其他自定义异常不同，本异常继承 {@link IOException} 而非 {@link BaseException}。
+ *
+ * @author Blare
+ * @create 2026/10/18 14:00
+ * @since 1.0.0
+ */
+public class CircuitOpenException extends IOException {
+
+    /**
+     * 熔断的主机
+     */
+    private final String host;
+
+    /**
+     * 距离允许探测还有多久（毫秒）
+     */
+    private final long retryAfterMillis;
+
+    public CircuitOpenException(String host, long retryAfterMillis) {
+        super("熔断中，请求未发出：" + host + "，" + retryAfterMillis + "ms 后允许探测");
+        this.host = host;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
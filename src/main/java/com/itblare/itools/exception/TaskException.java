@@ -0,0 +1,35 @@
+package com.itblare.itools.exception;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.exception
+ * ClassName:   TaskException
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:40
+ * Description:    任务执行异常
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:40    1.0.0             任务执行异常
+ */
+
+/**
+ * 任务执行异常
+ *
+ * @author Blare
+ * @create 2026/10/17 10:40
+ * @since 1.0.0
+ */
+public class TaskException extends BaseException {
+
+    public TaskException() {
+        super();
+    }
+
+    public TaskException(String message) {
+        super(message);
+    }
+
+    public TaskException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -12,10 +12,9 @@ package com.itblare.itools.file;
  * Blare           2021/4/12 11:37    1.0.0             文件处理工具
  */
 
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import com.itblare.itools.http.transport.HttpTransports;
+import com.itblare.itools.http.transport.TransportRequest;
+import com.itblare.itools.http.transport.TransportResponse;
 
 import java.io.*;
 import java.net.HttpURLConnection;
@@ -26,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.text.DecimalFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -114,29 +114,39 @@ public class FileProcessor {
     }
 
     /**
-     * 获取网络文件流
+     * 获取网络文件流，经由共享的 {@link HttpTransports#getDefault()} 发起请求
      *
      * @param url     URL连接
      * @param referer referer验证，不加referer可能会403
-     * @return {@link InputStream}
+     * @return {@link InputStream} 调用方负责关闭；非 200 或请求失败时返回 null
      * @method getInputStreamByUrl
      * @date 2021/4/13 9:51
      */
     public static InputStream getInputStreamByUrl(String url, String referer) {
-        HttpGet httpGet = new HttpGet(detectUrl(url));
-        httpGet.setHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/69.0.3497.100 Safari/537.36");
+        // 返回的流由调用方读取，读取时长不可预期，不设整体超时，只受读超时限制
+        final TransportRequest request = TransportRequest.get(detectUrl(url))
+            .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/69.0.3497.100 Safari/537.36")
+            .timeout(Duration.ZERO);
         if (Objects.nonNull(referer) && !"".equals(referer)) {
-            httpGet.setHeader("referer", referer);
+            request.header("referer", referer);
         }
-        CloseableHttpClient httpclient = HttpClients.createDefault();
-        CloseableHttpResponse response;
-        InputStream in;
         try {
-            response = httpclient.execute(httpGet);
-            in = response.getEntity().getContent();
-            if (response.getStatusLine().getStatusCode() == 200) {
-                return in;
+            final TransportResponse response = HttpTransports.getDefault().execute(request);
+            try {
+                if (response.code() == 200) {
+                    // 关闭流时释放响应，连接归还共享连接池
+                    return new FilterInputStream(response.body()) {
+                        @Override
+                        public void close() throws IOException {
+                            response.close();
+                        }
+                    };
+                }
+            } catch (IOException | RuntimeException e) {
+                response.close();
+                throw e;
             }
+            response.close();
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -152,7 +162,7 @@ public class FileProcessor {
      * @date 2021/4/13 9:50
      */
     public static String detectUrl(String url) {
-        if (Objects.isNull(url) || "".equals(url)) {
+        if (Objects.nonNull(url) && !"".equals(url)) {
             if (url.startsWith("http://") || url.startsWith("https://")) {
                 return url;
             }
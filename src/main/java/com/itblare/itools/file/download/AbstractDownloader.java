@@ -12,6 +12,12 @@ package com.itblare.itools.file.download;
  * Blare           2021/4/26 23:48    1.0.0         下载器抽象
  */
 
+import com.itblare.itools.exception.FileException;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Objects;
+
 /**
  * 下载器抽象
  *
@@ -19,11 +25,57 @@ package com.itblare.itools.file.download;
  * @create 2021/4/26 23:48
  * @since 1.0.0
  */
-public class AbstractDownloader implements Downloader {
+public abstract class AbstractDownloader implements Downloader {
 
+    /**
+     * 资源下载到目录，文件名取自 URL 路径的最后一段
+     */
     @Override
     public void download(String url, String dir) {
-
+        final File directory = new File(dir);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new FileException("无法创建下载目录：" + dir);
+        }
+        download(url, new File(directory, fileName(url)));
     }
 
+    /**
+     * 资源下载到指定文件
+     *
+     * @param url    下载链接
+     * @param target 目标文件
+     * @return {@link DownloadResult}
+     * @throws FileException 下载失败
+     * @method download
+     * @date 2026/10/17 18:20
+     */
+    public abstract DownloadResult download(String url, File target);
+
+    /**
+     * 从 URL 中解析文件名：取路径最后一段（解码后的 / 与 \ 均视为分隔符），去掉控制字符，
+     * 结果为空、{@code .} 或 {@code ..} 时使用生成的文件名，保证不会落到下载目录之外
+     *
+     * @param url 下载链接
+     * @return {@link String}
+     * @method fileName
+     * @date 2026/10/17 18:22
+     */
+    protected static String fileName(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            path = url;
+        }
+        if (Objects.nonNull(path)) {
+            final int query = path.indexOf('?');
+            path = query >= 0 ? path.substring(0, query) : path;
+            final String name = path.substring(Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "").trim();
+            if (!name.isEmpty() && !".".equals(name) && !"..".equals(name)) {
+                return name;
+            }
+        }
+        return "download-" + System.currentTimeMillis();
+    }
 }
@@ -0,0 +1,125 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   BandwidthLimiter
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 20:40
+ * Description:    令牌桶带宽限制
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 20:40    1.0.0         令牌桶带宽限制
+ */
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 令牌桶带宽限制
+ * <p>
+ * 令牌按字节每秒匀速补充，桶容量即允许的突发量。{@link #acquire(long)} 允许预支：
+ * 令牌不足时先扣成负数，调用线程再睡眠到欠账还清，因此大块读取不会被拆成多次等待，
+ * 多个线程共享同一个实例即得到全局带宽上限。速率可在运行时调整。
+ *
+ * @author Blare
+ * @create 2026/10/17 20:40
+ * @since 1.0.0
+ */
+public class BandwidthLimiter {
+
+    private long bytesPerSecond;
+
+    private long burst;
+
+    /**
+     * 当前令牌数，可为负（欠账）
+     */
+    private double tokens;
+
+    private long lastNanos;
+
+    /**
+     * 构造带宽限制，突发量为一秒的流量
+     *
+     * @param bytesPerSecond 字节每秒
+     */
+    public BandwidthLimiter(long bytesPerSecond) {
+        this(bytesPerSecond, bytesPerSecond);
+    }
+
+    /**
+     * 构造带宽限制
+     *
+     * @param bytesPerSecond 字节每秒
+     * @param burst          突发量（桶容量）
+     */
+    public BandwidthLimiter(long bytesPerSecond, long burst) {
+        setRate(bytesPerSecond, burst);
+        this.tokens = this.burst;
+        this.lastNanos = System.nanoTime();
+    }
+
+    /**
+     * 调整速率
+     *
+     * @param bytesPerSecond 字节每秒
+     * @param burst          突发量（桶容量）
+     * @method setRate
+     * @date 2026/10/17 20:50
+     */
+    public synchronized void setRate(long bytesPerSecond, long burst) {
+        if (bytesPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond and burst must be positive");
+        }
+        refill(System.nanoTime());
+        this.bytesPerSecond = bytesPerSecond;
+        this.burst = burst;
+        this.tokens = Math.min(tokens, burst);
+    }
+
+    public synchronized long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * 获取令牌，必要时阻塞
+     *
+     * @param bytes 字节数
+     * @throws InterruptedIOException 等待时被中断
+     * @method acquire
+     * @date 2026/10/17 20:52
+     */
+    public void acquire(long bytes) throws InterruptedIOException {
+        if (bytes <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill(System.nanoTime());
+            tokens -= bytes;
+            waitNanos = tokens >= 0 ? 0L : (long) (-tokens * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+        }
+        final long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("等待带宽令牌时被中断");
+            }
+            waitNanos = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * 调用方需持有锁
+     */
+    private void refill(long now) {
+        final long elapsed = now - lastNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * (double) bytesPerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastNanos = now;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   DigestAlgorithm
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 22:40
+ * Description:    下载摘要算法
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 22:40    1.0.0         下载摘要算法
+ */
+
+/**
+ * 下载摘要算法
+ *
+ * @author Blare
+ * @create 2026/10/17 22:40
+ * @since 1.0.0
+ */
+public enum DigestAlgorithm {
+
+    /**
+     * SHA-256
+     */
+    SHA256("SHA-256"),
+
+    /**
+     * MD5
+     */
+    MD5("MD5"),
+
+    /**
+     * CRC32C，结果为 8 位十六进制
+     */
+    CRC32C("CRC32C");
+
+    private final String algorithm;
+
+    DigestAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+}
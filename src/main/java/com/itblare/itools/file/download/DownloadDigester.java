@@ -0,0 +1,264 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   DownloadDigester
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 22:45
+ * Description:    下载过程中的增量摘要计算
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 22:45    1.0.0         下载过程中的增量摘要计算
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 下载过程中的增量摘要计算
+ * <p>
+ * 摘要必须按文件顺序计算，而分段下载是乱序写入的。这里维护一个顺序游标：写入位置恰好在游标处的数据直接用内存中的缓冲计算，
+ * 不产生额外读取；其余位置的写入只登记区间，等游标推进到该处时再从文件通道读回（刚写入的数据通常仍在页缓存中）。
+ * 单连接下载的所有数据都在游标处，全部在内存中完成计算。同一时刻只有一个线程在计算摘要，其他线程登记区间后立即返回。
+ * 续传时先用 {@link #completed(long, long)} 登记已完成区间，再调用 {@link #restore()} 读回文件开头连续的已完成部分，
+ * 游标随之推进到第一个缺失区间，之后的写入照常在内存中计算。
+ *
+ * @author Blare
+ * @create 2026/10/17 22:45
+ * @since 1.0.0
+ */
+public class DownloadDigester {
+
+    /**
+     * 读回缓冲大小
+     */
+    private static final int READ_BUFFER_SIZE = 256 * 1024;
+
+    private final FileChannel channel;
+
+    private final Map<DigestAlgorithm, MessageDigest> digests = new EnumMap<>(DigestAlgorithm.class);
+
+    private final CRC32C crc32c;
+
+    /**
+     * 以下字段由 this 保护
+     */
+    private final TreeMap<Long, Long> pending = new TreeMap<>();
+
+    /**
+     * 已计算到的位置
+     */
+    private long cursor;
+
+    /**
+     * 是否有线程正在计算
+     */
+    private boolean hashing;
+
+    /**
+     * 构造摘要计算
+     *
+     * @param algorithms 算法
+     * @param channel    目标文件通道，用于读回乱序区间
+     */
+    public DownloadDigester(Collection<DigestAlgorithm> algorithms, FileChannel channel) {
+        this.channel = Objects.requireNonNull(channel);
+        CRC32C crc = null;
+        for (DigestAlgorithm algorithm : algorithms) {
+            if (DigestAlgorithm.CRC32C == algorithm) {
+                crc = new CRC32C();
+                continue;
+            }
+            try {
+                digests.put(algorithm, MessageDigest.getInstance(algorithm.getAlgorithm()));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("摘要算法不可用：" + algorithm.getAlgorithm(), e);
+            }
+        }
+        this.crc32c = crc;
+    }
+
+    /**
+     * 登记已在文件中的区间（续传前已完成的部分）
+     *
+     * @param from 起始位置（含）
+     * @param to   结束位置（不含）
+     * @method completed
+     * @date 2026/10/17 22:55
+     */
+    public synchronized void completed(long from, long to) {
+        if (to > from) {
+            register(from, to);
+        }
+    }
+
+    /**
+     * 读回紧接游标的已完成区间并推进游标，续传时在登记已完成区间之后、开始下载之前调用一次
+     *
+     * @throws IOException 读回失败
+     * @method restore
+     * @date 2026/10/18 19:40
+     */
+    public void restore() throws IOException {
+        drain();
+    }
+
+    /**
+     * 数据已写入文件对应位置，在游标处时直接计算，否则登记区间
+     *
+     * @param position 写入位置
+     * @param data     已写入的数据（position 到 limit）
+     * @throws IOException 读回乱序区间失败
+     * @method written
+     * @date 2026/10/17 22:56
+     */
+    public void written(long position, ByteBuffer data) throws IOException {
+        final int length = data.remaining();
+        if (0 == length) {
+            return;
+        }
+        synchronized (this) {
+            if (hashing || position != cursor) {
+                register(position, position + length);
+                return;
+            }
+            hashing = true;
+        }
+        long end = position + length;
+        try {
+            update(data);
+            catchUp(end);
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                hashing = false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 全部写入完成后补齐剩余区间并输出摘要（大写十六进制）
+     *
+     * @param length 文件总大小
+     * @return {@link Map}
+     * @throws IOException 读回失败或存在未写入的区间
+     * @method finish
+     * @date 2026/10/17 23:00
+     */
+    public Map<DigestAlgorithm, String> finish(long length) throws IOException {
+        drain();
+        synchronized (this) {
+            if (cursor != length) {
+                throw new EOFException("摘要计算不完整：已计算 " + cursor + " 总大小 " + length);
+            }
+        }
+        final Map<DigestAlgorithm, String> result = new EnumMap<>(DigestAlgorithm.class);
+        for (Map.Entry<DigestAlgorithm, MessageDigest> entry : digests.entrySet()) {
+            result.put(entry.getKey(), hex(entry.getValue().digest()));
+        }
+        if (Objects.nonNull(crc32c)) {
+            result.put(DigestAlgorithm.CRC32C, String.format("%08X", crc32c.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * 获取计算权，从游标处处理已登记的区间
+     */
+    private void drain() throws IOException {
+        final long start;
+        synchronized (this) {
+            if (hashing) {
+                throw new IllegalStateException("digest still in progress");
+            }
+            hashing = true;
+            start = cursor;
+        }
+        try {
+            catchUp(start);
+        } finally {
+            synchronized (this) {
+                hashing = false;
+            }
+        }
+    }
+
+    /**
+     * 持有计算权时调用：推进游标并处理紧接其后的已登记区间，没有可处理的区间时释放计算权
+     */
+    private void catchUp(long end) throws IOException {
+        long position = end;
+        ByteBuffer buffer = null;
+        while (true) {
+            final long to;
+            synchronized (this) {
+                cursor = position;
+                final Map.Entry<Long, Long> first = pending.firstEntry();
+                if (Objects.isNull(first) || first.getKey() > cursor) {
+                    hashing = false;
+                    return;
+                }
+                pending.pollFirstEntry();
+                // 与游标重叠的部分已计算过
+                to = first.getValue();
+                if (to <= cursor) {
+                    continue;
+                }
+            }
+            if (Objects.isNull(buffer)) {
+                buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            }
+            while (position < to) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), to - position));
+                final int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("读回区间失败：" + position);
+                }
+                buffer.flip();
+                update(buffer);
+                position += read;
+            }
+        }
+    }
+
+    /**
+     * 调用方需持有锁；紧接前一区间的写入直接延长该区间，保持登记表短小
+     */
+    private void register(long from, long to) {
+        final Map.Entry<Long, Long> floor = pending.floorEntry(from);
+        if (Objects.nonNull(floor) && floor.getValue() >= from) {
+            pending.put(floor.getKey(), Math.max(floor.getValue(), to));
+        } else {
+            pending.merge(from, to, Math::max);
+        }
+    }
+
+    private void update(ByteBuffer data) {
+        for (MessageDigest digest : digests.values()) {
+            digest.update(data.duplicate());
+        }
+        if (Objects.nonNull(crc32c)) {
+            crc32c.update(data.duplicate());
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString().toUpperCase();
+    }
+}
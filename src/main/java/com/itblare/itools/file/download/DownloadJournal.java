@@ -0,0 +1,287 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   DownloadJournal
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 19:10
+ * Description:    断点续传区间日志
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 19:10    1.0.0         断点续传区间日志
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 断点续传区间日志
+ * <p>
+ * 与下载中的文件同目录的旁路文件（{@code <文件名>.journal}，{@link SegmentedDownloader} 中为 {@code <目标文件名>.part.journal}），记录资源地址、总大小、校验标识（ETag 或 Last-Modified）
+ * 以及已落盘的字节区间。区间在数据 {@link FileChannel#force(boolean) 刷盘} 之后才写入日志，日志本身先写临时文件再原子替换，
+ * 因此进程在任意时刻被杀死，日志中记录的区间都是真实完成的。
+ * <pre>
+ * url=https://example.com/a.iso
+ * length=734003200
+ * validator="5f3c-2a1b"
+ * range=0-8388607
+ * range=183500800-191889407
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 19:10
+ * @since 1.0.0
+ */
+public class DownloadJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadJournal.class);
+
+    /**
+     * 日志文件后缀
+     */
+    public static final String SUFFIX = ".journal";
+
+    private final File file;
+
+    private final String url;
+
+    private final long length;
+
+    private final String validator;
+
+    /**
+     * 已完成区间：起始位置（含） → 结束位置（不含），相邻区间合并存放
+     */
+    private final TreeMap<Long, Long> completed = new TreeMap<>();
+
+    private DownloadJournal(File file, String url, long length, String validator) {
+        this.file = file;
+        this.url = url;
+        this.length = length;
+        this.validator = validator;
+    }
+
+    /**
+     * 打开日志：已有日志与资源一致（地址、大小、校验标识相同且下载中的文件大小正确）时沿用，否则新建空日志
+     *
+     * @param target    下载中的文件
+     * @param url       资源地址
+     * @param length    资源大小
+     * @param validator 校验标识
+     * @return {@link DownloadJournal}
+     * @method open
+     * @date 2026/10/17 19:20
+     */
+    public static DownloadJournal open(File target, String url, long length, String validator) {
+        final File file = journalFile(target);
+        final DownloadJournal journal = new DownloadJournal(file, url, length, Objects.requireNonNull(validator));
+        if (!file.isFile()) {
+            return journal;
+        }
+        try {
+            final DownloadJournal previous = read(file);
+            if (url.equals(previous.url) && length == previous.length && validator.equals(previous.validator)
+                && target.isFile() && target.length() == length) {
+                journal.completed.putAll(previous.completed);
+            } else {
+                LOGGER.info("资源已变更或本地文件不完整，重新下载：{}", url);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("断点日志损坏，重新下载：{}", file, e);
+        }
+        return journal;
+    }
+
+    /**
+     * 目标文件对应的日志文件
+     *
+     * @param target 下载中的文件
+     * @return {@link File}
+     * @method journalFile
+     * @date 2026/10/17 19:22
+     */
+    public static File journalFile(File target) {
+        return new File(target.getPath() + SUFFIX);
+    }
+
+    /**
+     * 是否没有任何已完成区间（全新下载）
+     *
+     * @return {@link boolean}
+     * @method isFresh
+     * @date 2026/10/17 19:24
+     */
+    public synchronized boolean isFresh() {
+        return completed.isEmpty();
+    }
+
+    /**
+     * 已完成字节数
+     *
+     * @return {@link long}
+     * @method getCompletedBytes
+     * @date 2026/10/17 19:25
+     */
+    public synchronized long getCompletedBytes() {
+        long bytes = 0L;
+        for (Map.Entry<Long, Long> range : completed.entrySet()) {
+            bytes += range.getValue() - range.getKey();
+        }
+        return bytes;
+    }
+
+    /**
+     * 尚未完成的区间
+     *
+     * @return {@link List} 每项为 {起始位置（含）, 结束位置（不含）}
+     * @method missing
+     * @date 2026/10/17 19:26
+     */
+    public synchronized List<long[]> missing() {
+        final List<long[]> missing = new ArrayList<>();
+        long position = 0L;
+        for (Map.Entry<Long, Long> range : completed.entrySet()) {
+            if (range.getKey() > position) {
+                missing.add(new long[]{position, range.getKey()});
+            }
+            position = Math.max(position, range.getValue());
+        }
+        if (position < length) {
+            missing.add(new long[]{position, length});
+        }
+        return missing;
+    }
+
+    /**
+     * 数据刷盘后记录区间并保存日志
+     *
+     * @param channel 目标文件通道
+     * @param from    起始位置（含）
+     * @param to      结束位置（不含）
+     * @throws IOException 刷盘或保存失败
+     * @method commit
+     * @date 2026/10/17 19:28
+     */
+    public void commit(FileChannel channel, long from, long to) throws IOException {
+        if (to <= from) {
+            return;
+        }
+        channel.force(false);
+        synchronized (this) {
+            add(from, to);
+            save();
+        }
+    }
+
+    /**
+     * 下载完成后删除日志
+     *
+     * @method delete
+     * @date 2026/10/17 19:30
+     */
+    public synchronized void delete() {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("删除断点日志失败：{}", file, e);
+        }
+    }
+
+    private void add(long from, long to) {
+        long start = from;
+        long end = to;
+        // 合并与之重叠或相邻的区间
+        final Map.Entry<Long, Long> floor = completed.floorEntry(start);
+        if (Objects.nonNull(floor) && floor.getValue() >= start) {
+            start = floor.getKey();
+            end = Math.max(end, floor.getValue());
+        }
+        Map.Entry<Long, Long> next;
+        while (Objects.nonNull(next = completed.ceilingEntry(start)) && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            completed.remove(next.getKey());
+        }
+        completed.put(start, end);
+    }
+
+    private void save() throws IOException {
+        final Path path = file.toPath();
+        final Path temp = path.resolveSibling(file.getName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write("url=" + url);
+            writer.newLine();
+            writer.write("length=" + length);
+            writer.newLine();
+            writer.write("validator=" + validator);
+            writer.newLine();
+            for (Map.Entry<Long, Long> range : completed.entrySet()) {
+                writer.write("range=" + range.getKey() + "-" + (range.getValue() - 1));
+                writer.newLine();
+            }
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static DownloadJournal read(File file) throws IOException {
+        String url = null;
+        String validator = null;
+        long length = -1L;
+        final List<long[]> ranges = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while (Objects.nonNull(line = reader.readLine())) {
+                final int eq = line.indexOf('=');
+                if (eq <= 0) {
+                    continue;
+                }
+                final String value = line.substring(eq + 1);
+                switch (line.substring(0, eq)) {
+                    case "url":
+                        url = value;
+                        break;
+                    case "length":
+                        length = Long.parseLong(value);
+                        break;
+                    case "validator":
+                        validator = value;
+                        break;
+                    case "range":
+                        final int dash = value.indexOf('-');
+                        ranges.add(new long[]{Long.parseLong(value.substring(0, dash)), Long.parseLong(value.substring(dash + 1)) + 1});
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        final DownloadJournal journal = new DownloadJournal(file, url, length, validator);
+        for (long[] range : ranges) {
+            if (range[0] < 0 || range[1] > length || range[0] >= range[1]) {
+                throw new IOException("非法区间：" + range[0] + "-" + (range[1] - 1));
+            }
+            journal.add(range[0], range[1]);
+        }
+        return journal;
+    }
+}
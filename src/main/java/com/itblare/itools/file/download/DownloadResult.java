@@ -0,0 +1,107 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   DownloadResult
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 18:15
+ * Description:    下载结果
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 18:15    1.0.0         下载结果
+ */
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 下载结果
+ *
+ * @author Blare
+ * @create 2026/10/17 18:15
+ * @since 1.0.0
+ */
+public class DownloadResult {
+
+    /**
+     * 目标文件
+     */
+    private final File file;
+
+    /**
+     * 文件大小
+     */
+    private final long contentLength;
+
+    /**
+     * 分段数，单连接下载为 1
+     */
+    private final int segments;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 下载过程中计算的摘要（大写十六进制）
+     */
+    private final Map<DigestAlgorithm, String> digests;
+
+    public DownloadResult(File file, long contentLength, int segments, long elapsedMillis) {
+        this(file, contentLength, segments, elapsedMillis, Collections.emptyMap());
+    }
+
+    public DownloadResult(File file, long contentLength, int segments, long elapsedMillis, Map<DigestAlgorithm, String> digests) {
+        this.file = file;
+        this.contentLength = contentLength;
+        this.segments = segments;
+        this.elapsedMillis = elapsedMillis;
+        this.digests = Collections.unmodifiableMap(digests);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Map<DigestAlgorithm, String> getDigests() {
+        return digests;
+    }
+
+    /**
+     * 获取摘要，未计算时返回 null
+     *
+     * @param algorithm 算法
+     * @return {@link String}
+     * @method getDigest
+     * @date 2026/10/17 23:10
+     */
+    public String getDigest(DigestAlgorithm algorithm) {
+        return digests.get(algorithm);
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadResult{" +
+            "file=" + file +
+            ", contentLength=" + contentLength +
+            ", segments=" + segments +
+            ", elapsedMillis=" + elapsedMillis +
+            ", digests=" + digests +
+            '}';
+    }
+}
@@ -0,0 +1,277 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   DownloadScheduler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 21:00
+ * Description:    限速限连接的批量下载调度
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 21:00    1.0.0         限速限连接的批量下载调度
+ */
+
+import okhttp3.HttpUrl;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 限速限连接的批量下载调度
+ * <p>
+ * 三层限制同时生效：
+ * <ul>
+ *     <li>总并行度：同时进行的下载任务数；</li>
+ *     <li>单主机连接数：每个下载按其分段数（不超过单主机上限）占用所属主机的连接名额，名额不足的任务留在队列中，
+ *     不阻塞其他主机的任务；</li>
+ *     <li>总带宽：所有连接共享一个 {@link BandwidthLimiter} 令牌桶。</li>
+ * </ul>
+ * 同一主机的任务按提交顺序执行。调度器会把带宽限制设置到传入的 {@link SegmentedDownloader} 上。
+ * <pre>
+ * DownloadScheduler scheduler = new DownloadScheduler(new SegmentedDownloader(), 16, 4, 20L * 1024 * 1024);
+ * urls.forEach(url -&gt; scheduler.submit(url, new File(dir, name(url))));
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 21:00
+ * @since 1.0.0
+ */
+public class DownloadScheduler {
+
+    private static final AtomicInteger INSTANCE_INDEX = new AtomicInteger();
+
+    private final SegmentedDownloader downloader;
+
+    private final int parallelism;
+
+    private final int maxConnectionsPerHost;
+
+    private final BandwidthLimiter limiter;
+
+    private final ExecutorService executor;
+
+    /**
+     * 以下字段由 this 保护
+     */
+    private final LinkedList<Job> pending = new LinkedList<>();
+
+    private final Map<String, Integer> hostConnections = new HashMap<>();
+
+    private int active;
+
+    private boolean shutdown;
+
+    /**
+     * 构造不限带宽的调度器
+     *
+     * @param downloader            下载器
+     * @param parallelism           总并行度
+     * @param maxConnectionsPerHost 单主机最大连接数
+     */
+    public DownloadScheduler(SegmentedDownloader downloader, int parallelism, int maxConnectionsPerHost) {
+        this(downloader, parallelism, maxConnectionsPerHost, 0L);
+    }
+
+    /**
+     * 构造调度器
+     *
+     * @param downloader            下载器
+     * @param parallelism           总并行度
+     * @param maxConnectionsPerHost 单主机最大连接数
+     * @param bytesPerSecond        总带宽（字节每秒），不大于 0 表示不限
+     */
+    public DownloadScheduler(SegmentedDownloader downloader, int parallelism, int maxConnectionsPerHost, long bytesPerSecond) {
+        if (parallelism <= 0 || maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("parallelism and maxConnectionsPerHost must be positive");
+        }
+        this.downloader = Objects.requireNonNull(downloader);
+        this.parallelism = parallelism;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        if (bytesPerSecond > 0) {
+            this.limiter = new BandwidthLimiter(bytesPerSecond);
+            downloader.setBandwidthLimiter(limiter);
+        } else {
+            this.limiter = null;
+        }
+        final int index = INSTANCE_INDEX.incrementAndGet();
+        final AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread thread = new Thread(r, "download-scheduler-" + index + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 提交下载任务
+     *
+     * @param url    下载链接
+     * @param target 目标文件
+     * @return {@link CompletableFuture} 取消尚未开始的任务会将其移出队列
+     * @method submit
+     * @date 2026/10/17 21:10
+     */
+    public CompletableFuture<DownloadResult> submit(String url, File target) {
+        final Job job = new Job(url, Objects.requireNonNull(target), host(url),
+            Math.min(maxConnectionsPerHost, downloader.getSegments()));
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("download scheduler already shut down");
+            }
+            pending.add(job);
+        }
+        job.future.whenComplete((result, e) -> {
+            if (job.future.isCancelled()) {
+                synchronized (this) {
+                    pending.remove(job);
+                }
+            }
+        });
+        dispatch();
+        return job.future;
+    }
+
+    /**
+     * 调整总带宽，仅对构造时启用了限速的调度器有效
+     *
+     * @param bytesPerSecond 字节每秒
+     * @method setBytesPerSecond
+     * @date 2026/10/17 21:12
+     */
+    public void setBytesPerSecond(long bytesPerSecond) {
+        if (Objects.isNull(limiter)) {
+            throw new IllegalStateException("bandwidth limit not enabled");
+        }
+        limiter.setRate(bytesPerSecond, bytesPerSecond);
+    }
+
+    public synchronized int getQueued() {
+        return pending.size();
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    /**
+     * 不再接受新任务，已提交的任务继续执行
+     *
+     * @method shutdown
+     * @date 2026/10/17 21:14
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if (!pending.isEmpty() || active > 0) {
+                return;
+            }
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * 按提交顺序派发满足并行度与主机连接名额的任务
+     */
+    private void dispatch() {
+        while (true) {
+            final Job job;
+            synchronized (this) {
+                job = next();
+                if (Objects.isNull(job)) {
+                    if (shutdown && pending.isEmpty() && 0 == active) {
+                        executor.shutdown();
+                    }
+                    return;
+                }
+                active++;
+                hostConnections.merge(job.host, job.connections, Integer::sum);
+            }
+            executor.execute(() -> run(job));
+        }
+    }
+
+    /**
+     * 调用方需持有锁
+     */
+    private Job next() {
+        if (active >= parallelism) {
+            return null;
+        }
+        final Iterator<Job> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            final Job job = iterator.next();
+            if (job.future.isDone()) {
+                iterator.remove();
+                continue;
+            }
+            if (hostConnections.getOrDefault(job.host, 0) + job.connections <= maxConnectionsPerHost) {
+                iterator.remove();
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private void run(Job job) {
+        try {
+            if (!job.future.isDone()) {
+                job.future.complete(downloader.download(job.url, job.target, job.connections));
+            }
+        } catch (Throwable e) {
+            job.future.completeExceptionally(e);
+        } finally {
+            synchronized (this) {
+                active--;
+                hostConnections.computeIfPresent(job.host, (k, v) -> v - job.connections > 0 ? v - job.connections : null);
+            }
+            dispatch();
+        }
+    }
+
+    /**
+     * 主机标识，本地来源统一归入一个分组
+     */
+    private static String host(String url) {
+        if (LocalFileDownloader.isLocal(url)) {
+            return "file";
+        }
+        final HttpUrl httpUrl = HttpUrl.get(url);
+        return httpUrl.host() + ":" + httpUrl.port();
+    }
+
+    /**
+     * 下载任务
+     */
+    private static class Job {
+
+        private final String url;
+
+        private final File target;
+
+        private final String host;
+
+        /**
+         * 占用的主机连接名额
+         */
+        private final int connections;
+
+        private final CompletableFuture<DownloadResult> future = new CompletableFuture<>();
+
+        private Job(String url, File target, String host, int connections) {
+            this.url = url;
+            this.target = target;
+            this.host = host;
+            this.connections = connections;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   LocalFileDownloader
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 23:30
+ * Description:    本地文件（file://）零拷贝下载
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 23:30    1.0.0         本地文件（file://）零拷贝下载
+ */
+
+import com.itblare.itools.exception.FileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 本地文件（file://）零拷贝下载
+ * <p>
+ * 来源为 {@code file:} 地址或本地（含网络挂载）路径时不经过 HTTP：默认用 {@link FileChannel#transferTo} 复制，
+ * 数据在内核中搬运，不经过用户态缓冲；开启硬链接后同一文件系统内直接建立硬链接，不复制数据，
+ * 跨文件系统或不支持时自动退化为复制。注意硬链接与来源共享数据，修改任一方另一方随之变化。
+ * 需要计算摘要时数据必须经过用户态，改为单次读写并同时计算。
+ *
+ * @author Blare
+ * @create 2026/10/17 23:30
+ * @since 1.0.0
+ */
+public class LocalFileDownloader extends AbstractDownloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileDownloader.class);
+
+    private static final Pattern URL_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://.*");
+
+    /**
+     * 计算摘要时的读写缓冲：1M
+     */
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 是否优先建立硬链接
+     */
+    private boolean hardLink;
+
+    /**
+     * 复制时计算的摘要算法
+     */
+    private Set<DigestAlgorithm> digestAlgorithms = EnumSet.noneOf(DigestAlgorithm.class);
+
+    public boolean isHardLink() {
+        return hardLink;
+    }
+
+    public void setHardLink(boolean hardLink) {
+        this.hardLink = hardLink;
+    }
+
+    public Set<DigestAlgorithm> getDigestAlgorithms() {
+        return digestAlgorithms;
+    }
+
+    public void setDigestAlgorithms(DigestAlgorithm... algorithms) {
+        final Set<DigestAlgorithm> set = EnumSet.noneOf(DigestAlgorithm.class);
+        set.addAll(Arrays.asList(algorithms));
+        this.digestAlgorithms = set;
+    }
+
+    /**
+     * 是否为本地来源：{@code file:} 地址或不带协议的绝对路径
+     *
+     * @param url 下载链接
+     * @return {@link boolean}
+     * @method isLocal
+     * @date 2026/10/17 23:35
+     */
+    public static boolean isLocal(String url) {
+        if (Objects.isNull(url)) {
+            return false;
+        }
+        if (url.regionMatches(true, 0, "file:", 0, 5)) {
+            return true;
+        }
+        if (URL_SCHEME.matcher(url).matches()) {
+            return false;
+        }
+        try {
+            return Paths.get(url).isAbsolute();
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public DownloadResult download(String url, File target) {
+        return copy(url, target, digestAlgorithms);
+    }
+
+    /**
+     * 复制本地来源到目标文件
+     *
+     * @param url        {@code file:} 地址或本地路径
+     * @param target     目标文件
+     * @param algorithms 需要计算的摘要，为空时走零拷贝
+     * @return {@link DownloadResult}
+     * @throws FileException 来源不存在或复制失败
+     * @method copy
+     * @date 2026/10/17 23:40
+     */
+    public DownloadResult copy(String url, File target, Set<DigestAlgorithm> algorithms) {
+        final long start = System.currentTimeMillis();
+        final Path source = source(url);
+        if (!Files.isRegularFile(source)) {
+            throw new FileException("本地来源不存在或不是文件：" + url);
+        }
+        final Path destination = target.toPath();
+        try {
+            if (Files.exists(destination) && Files.isSameFile(source, destination)) {
+                // 目标已是来源的硬链接；复制会截断来源本身
+                if (hardLink && algorithms.isEmpty()) {
+                    return new DownloadResult(target, target.length(), 1, System.currentTimeMillis() - start);
+                }
+                throw new FileException("来源与目标是同一个文件：" + target);
+            }
+            if (hardLink && algorithms.isEmpty() && link(source, destination)) {
+                return new DownloadResult(target, target.length(), 1, System.currentTimeMillis() - start);
+            }
+            final Map<DigestAlgorithm, String> digests;
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(destination, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                digests = algorithms.isEmpty() ? Collections.emptyMap() : copyWithDigest(in, out, algorithms);
+                if (algorithms.isEmpty()) {
+                    transfer(in, out);
+                }
+            }
+            return new DownloadResult(target, target.length(), 1, System.currentTimeMillis() - start, digests);
+        } catch (IOException e) {
+            if (target.exists() && !target.delete()) {
+                target.deleteOnExit();
+            }
+            throw new FileException("本地文件复制失败：" + url, e);
+        }
+    }
+
+    /**
+     * 建立硬链接，失败（跨文件系统、不支持等）时返回 false
+     */
+    private boolean link(Path source, Path destination) throws IOException {
+        Files.deleteIfExists(destination);
+        try {
+            Files.createLink(destination, source);
+            return true;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            LOGGER.debug("无法建立硬链接，改为复制：{}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void transfer(FileChannel in, FileChannel out) throws IOException {
+        final long size = in.size();
+        long position = 0L;
+        while (position < size) {
+            final long transferred = in.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                // 来源在复制过程中被截断
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    private static Map<DigestAlgorithm, String> copyWithDigest(FileChannel in, FileChannel out, Set<DigestAlgorithm> algorithms) throws IOException {
+        final DownloadDigester digester = new DownloadDigester(algorithms, out);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long position = 0L;
+        while (in.read(buffer) >= 0 || buffer.position() > 0) {
+            buffer.flip();
+            final long written = position;
+            while (buffer.hasRemaining()) {
+                position += out.write(buffer);
+            }
+            buffer.flip();
+            digester.written(written, buffer);
+            buffer.clear();
+        }
+        return digester.finish(position);
+    }
+
+    private static Path source(String url) {
+        try {
+            if (url.regionMatches(true, 0, "file:", 0, 5)) {
+                return Paths.get(URI.create(url));
+            }
+            return Paths.get(url);
+        } catch (IllegalArgumentException e) {
+            throw new FileException("非法的本地地址：" + url, e);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   M3u8Downloader
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 22:10
+ * Description:    HLS（M3U8）下载器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 22:10    1.0.0         HLS（M3U8）下载器
+ */
+
+import com.itblare.itools.exception.M3u8Exception;
+import com.itblare.itools.file.download.listener.DownloadProgressListener;
+import com.itblare.itools.http.transport.HttpTransport;
+import com.itblare.itools.http.transport.HttpTransports;
+import com.itblare.itools.http.transport.TransportRequest;
+import com.itblare.itools.http.transport.TransportResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HLS（M3U8）下载器
+ * <p>
+ * 主播放列表按码率上限选择一路码率，媒体播放列表的分片并发下载（失败按退避重试），AES-128 加密的分片边下载边解密，
+ * 每个分片先写入临时文件，再按顺序追加到目标文件后立即删除。同时下载与等待合并的分片数不超过并发度的两倍，
+ * 因此内存与临时磁盘占用都与总时长无关。直播列表（无 #EXT-X-ENDLIST）只下载当前列表中的分片。
+ *
+ * @author Blare
+ * @create 2026/10/17 22:10
+ * @since 1.0.0
+ */
+public class M3u8Downloader extends AbstractDownloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(M3u8Downloader.class);
+
+    private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+
+    /**
+     * 主播放列表最多嵌套层数
+     */
+    private static final int MAX_PLAYLIST_DEPTH = 3;
+
+    /**
+     * 默认进度发布间隔：500 毫秒
+     */
+    private static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 500L;
+
+    /**
+     * HTTP 传输层
+     */
+    private HttpTransport transport;
+
+    /**
+     * 分片下载并发度
+     */
+    private int parallelism = 8;
+
+    /**
+     * 单个分片失败重试次数
+     */
+    private int retries = 3;
+
+    /**
+     * 重试退避基数（毫秒），第 n 次重试等待 n 倍
+     */
+    private long retryBackoffMillis = 500L;
+
+    /**
+     * 码率上限，不大于 0 表示选择最高码率
+     */
+    private long maxBandwidth;
+
+    /**
+     * 下载进度监听器，进度按已合并的分片发布
+     */
+    private DownloadProgressListener progressListener;
+
+    /**
+     * 进度发布间隔（毫秒）
+     */
+    private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+
+    /**
+     * 进度发布字节阈值，不大于 0 表示只按时间发布
+     */
+    private long progressByteThreshold;
+
+    /**
+     * 附加请求头
+     */
+    private Map<String, String> headers = new HashMap<>();
+
+    /**
+     * 分片下载线程池，为空时每次下载新建固定大小线程池
+     */
+    private ExecutorService service;
+
+    public M3u8Downloader() {
+        this(HttpTransports.getDefault());
+    }
+
+    public M3u8Downloader(HttpTransport transport) {
+        this.transport = Objects.requireNonNull(transport);
+    }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(HttpTransport transport) {
+        this.transport = Objects.requireNonNull(transport);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public void setRetries(int retries) {
+        this.retries = Math.max(0, retries);
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        this.retryBackoffMillis = Math.max(0L, retryBackoffMillis);
+    }
+
+    public long getMaxBandwidth() {
+        return maxBandwidth;
+    }
+
+    public void setMaxBandwidth(long maxBandwidth) {
+        this.maxBandwidth = maxBandwidth;
+    }
+
+    public DownloadProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    public void setProgressListener(DownloadProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public long getProgressIntervalMillis() {
+        return progressIntervalMillis;
+    }
+
+    public void setProgressIntervalMillis(long progressIntervalMillis) {
+        this.progressIntervalMillis = Math.max(1L, progressIntervalMillis);
+    }
+
+    public long getProgressByteThreshold() {
+        return progressByteThreshold;
+    }
+
+    public void setProgressByteThreshold(long progressByteThreshold) {
+        this.progressByteThreshold = progressByteThreshold;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = Objects.isNull(headers) ? new HashMap<>() : headers;
+    }
+
+    public ExecutorService getService() {
+        return service;
+    }
+
+    public void setService(ExecutorService service) {
+        this.service = service;
+    }
+
+    /**
+     * 下载并解析媒体播放列表，主播放列表按码率上限选择
+     *
+     * @param url 播放列表地址
+     * @return {@link M3u8Playlist}
+     * @throws M3u8Exception 下载或解析失败
+     * @method playlist
+     * @date 2026/10/17 22:20
+     */
+    public M3u8Playlist playlist(String url) {
+        String current = url;
+        for (int depth = 0; depth < MAX_PLAYLIST_DEPTH; depth++) {
+            final M3u8Playlist playlist;
+            try {
+                playlist = M3u8Playlist.parse(current, fetchString(current));
+            } catch (IOException e) {
+                throw new M3u8Exception("播放列表下载失败：" + current, e);
+            }
+            if (!playlist.isMaster()) {
+                return playlist;
+            }
+            current = playlist.selectVariant(maxBandwidth).getUri();
+        }
+        throw new M3u8Exception("播放列表嵌套过深：" + url);
+    }
+
+    /**
+     * 资源下载到目录，M3U8 地址的文件名按分片格式替换后缀：带初始化分片（#EXT-X-MAP，fMP4）时为 .mp4，否则为 .ts
+     */
+    @Override
+    public void download(String url, String dir) {
+        final File directory = new File(dir);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new M3u8Exception("无法创建下载目录：" + dir);
+        }
+        final M3u8Playlist playlist = playlist(url);
+        final boolean fmp4 = playlist.getSegments().stream().anyMatch(M3u8Playlist.Segment::isInit);
+        final String name = fileName(url);
+        final int dot = name.lastIndexOf('.');
+        download(url, playlist, new File(directory, (dot > 0 ? name.substring(0, dot) : name) + (fmp4 ? ".mp4" : ".ts")));
+    }
+
+    @Override
+    public DownloadResult download(String url, File target) {
+        return download(url, playlist(url), target);
+    }
+
+    private DownloadResult download(String url, M3u8Playlist playlist, File target) {
+        final long start = System.currentTimeMillis();
+        final List<M3u8Playlist.Segment> segments = playlist.getSegments();
+        final Path parts;
+        try {
+            final File parent = target.getAbsoluteFile().getParentFile();
+            parts = Files.createTempDirectory(parent.toPath(), target.getName() + ".parts");
+        } catch (IOException e) {
+            throw new M3u8Exception("无法创建分片临时目录：" + target, e);
+        }
+        final boolean ownService = Objects.isNull(service);
+        final ExecutorService executor = ownService ? newExecutor() : service;
+        final ProgressTracker tracker = Objects.isNull(progressListener) ? null
+            : new ProgressTracker(target.getName(), -1L, 0L, 1, progressListener, progressIntervalMillis, progressByteThreshold);
+        final Map<String, byte[]> keys = new ConcurrentHashMap<>();
+        final Future<?>[] futures = new Future<?>[segments.size()];
+        final int window = parallelism * 2;
+        if (Objects.nonNull(tracker)) {
+            tracker.start();
+        }
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int submitted = 0;
+            for (int merged = 0; merged < segments.size(); merged++) {
+                while (submitted < segments.size() && submitted - merged < window) {
+                    final M3u8Playlist.Segment segment = segments.get(submitted);
+                    final Path part = parts.resolve(submitted + ".part");
+                    futures[submitted] = executor.submit(() -> {
+                        fetchSegment(segment, part, keys);
+                        return null;
+                    });
+                    submitted++;
+                }
+                await(futures[merged]);
+                final Path part = parts.resolve(merged + ".part");
+                final long size = append(part, out);
+                Files.delete(part);
+                if (Objects.nonNull(tracker)) {
+                    tracker.add(0, size);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Future<?> future : futures) {
+                if (Objects.nonNull(future)) {
+                    future.cancel(true);
+                }
+            }
+            if (target.exists() && !target.delete()) {
+                target.deleteOnExit();
+            }
+            final M3u8Exception failure = e instanceof M3u8Exception
+                ? (M3u8Exception) e : new M3u8Exception("M3U8 下载失败：" + url, e);
+            if (Objects.nonNull(tracker)) {
+                tracker.fail(failure);
+            }
+            throw failure;
+        } finally {
+            if (ownService) {
+                executor.shutdownNow();
+            }
+            deleteQuietly(parts);
+        }
+        if (Objects.nonNull(tracker)) {
+            tracker.complete();
+        }
+        return new DownloadResult(target, target.length(), segments.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 下载单个分片到临时文件，失败按退避重试
+     */
+    private void fetchSegment(M3u8Playlist.Segment segment, Path part, Map<String, byte[]> keys) throws IOException {
+        IOException last = null;
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("分片下载被中断");
+                }
+                LOGGER.debug("分片重试 {}/{}：{}", attempt, retries, segment.getUri());
+            }
+            try {
+                final Cipher cipher = Objects.isNull(segment.getKey()) ? null : cipher(segment, keys);
+                final TransportRequest request = newRequest(segment.getUri());
+                if (segment.getOffset() >= 0) {
+                    request.header("Range", "bytes=" + segment.getOffset() + "-" + (segment.getOffset() + segment.getLength() - 1));
+                }
+                try (TransportResponse response = transport.execute(request)) {
+                    if (!response.isSuccessful()) {
+                        throw new IOException("分片请求失败：" + response.code() + " " + segment.getUri());
+                    }
+                    try (InputStream in = Objects.isNull(cipher)
+                        ? response.body() : new CipherInputStream(response.body(), cipher)) {
+                        Files.copy(in, part, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+                return;
+            } catch (InterruptedIOException e) {
+                throw e;
+            } catch (IOException e) {
+                last = e;
+            }
+        }
+        throw Objects.requireNonNull(last);
+    }
+
+    /**
+     * AES-128-CBC 解密器，密钥按地址缓存
+     */
+    private Cipher cipher(M3u8Playlist.Segment segment, Map<String, byte[]> keys) throws IOException {
+        final String uri = segment.getKey().getUri();
+        byte[] key = keys.get(uri);
+        if (Objects.isNull(key)) {
+            try (TransportResponse response = transport.execute(newRequest(uri))) {
+                if (!response.isSuccessful()) {
+                    throw new IOException("密钥请求失败：" + response.code() + " " + uri);
+                }
+                key = response.body().readAllBytes();
+            }
+            if (16 != key.length) {
+                throw new M3u8Exception("AES-128 密钥长度错误：" + key.length);
+            }
+            keys.put(uri, key);
+        }
+        try {
+            final Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(segment.iv()));
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new M3u8Exception("初始化解密失败", e);
+        }
+    }
+
+    private String fetchString(String url) throws IOException {
+        try (TransportResponse response = transport.execute(newRequest(url))) {
+            if (!response.isSuccessful()) {
+                throw new IOException("请求失败：" + response.code());
+            }
+            return new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private TransportRequest newRequest(String url) {
+        return TransportRequest.get(url)
+            .headers(headers)
+            .timeout(Duration.ZERO);
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("M3U8 下载被中断");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new M3u8Exception("分片下载失败", cause);
+        }
+    }
+
+    /**
+     * 分片追加到目标文件末尾
+     */
+    private static long append(Path part, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+            final long size = in.size();
+            long position = 0L;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            return size;
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        final File[] files = dir.toFile().listFiles();
+        if (Objects.nonNull(files)) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+        if (!dir.toFile().delete()) {
+            dir.toFile().deleteOnExit();
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        return Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread thread = new Thread(r, "m3u8-download-" + THREAD_INDEX.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
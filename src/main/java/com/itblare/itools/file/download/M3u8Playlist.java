@@ -0,0 +1,415 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   M3u8Playlist
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 21:40
+ * Description:    M3U8 播放列表
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 21:40    1.0.0         M3U8 播放列表
+ */
+
+import com.itblare.itools.exception.M3u8Exception;
+import okhttp3.HttpUrl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * M3U8 播放列表
+ * <p>
+ * 解析主播放列表（{@code #EXT-X-STREAM-INF} 多码率）与媒体播放列表（{@code #EXTINF} 分片），
+ * 支持 {@code #EXT-X-KEY}（NONE / AES-128）、{@code #EXT-X-BYTERANGE} 与 {@code #EXT-X-MAP}（初始化分片），
+ * 相对地址按播放列表地址解析为绝对地址。
+ *
+ * @author Blare
+ * @create 2026/10/17 21:40
+ * @since 1.0.0
+ */
+public class M3u8Playlist {
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("([A-Z0-9-]+)=(\"[^\"]*\"|[^,]*)");
+
+    /**
+     * 是否为主播放列表
+     */
+    private final boolean master;
+
+    /**
+     * 码率列表（主播放列表）
+     */
+    private final List<Variant> variants;
+
+    /**
+     * 分片列表（媒体播放列表），初始化分片位于其所作用的分片之前
+     */
+    private final List<Segment> segments;
+
+    /**
+     * 是否包含 #EXT-X-ENDLIST（点播）
+     */
+    private final boolean endList;
+
+    private M3u8Playlist(boolean master, List<Variant> variants, List<Segment> segments, boolean endList) {
+        this.master = master;
+        this.variants = Collections.unmodifiableList(variants);
+        this.segments = Collections.unmodifiableList(segments);
+        this.endList = endList;
+    }
+
+    /**
+     * 解析播放列表
+     *
+     * @param url     播放列表地址，用于解析相对地址
+     * @param content 播放列表内容
+     * @return {@link M3u8Playlist}
+     * @throws M3u8Exception 格式错误或不支持的加密方式
+     * @method parse
+     * @date 2026/10/17 21:50
+     */
+    public static M3u8Playlist parse(String url, String content) {
+        final HttpUrl base = HttpUrl.parse(url);
+        if (Objects.isNull(base)) {
+            throw new M3u8Exception("非法的播放列表地址：" + url);
+        }
+        final String[] lines = content.split("\\r?\\n");
+        if (0 == lines.length || !lines[0].trim().startsWith("#EXTM3U")) {
+            throw new M3u8Exception("不是有效的 M3U8 播放列表：" + url);
+        }
+        final List<Variant> variants = new ArrayList<>();
+        final List<Segment> segments = new ArrayList<>();
+        boolean endList = false;
+        long sequence = 0L;
+        double duration = 0;
+        Key key = null;
+        String map = null;
+        long[] mapRange = null;
+        // 初始化分片使用 #EXT-X-MAP 出现处生效的密钥，而不是其后第一个媒体分片的密钥
+        Key mapKey = null;
+        String lastMap = null;
+        Map<String, String> streamInf = null;
+        long[] byteRange = null;
+        // 未指定偏移的 BYTERANGE 紧接同一资源上一个区间
+        final Map<String, Long> rangeEnds = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            final String line = lines[i].trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("#")) {
+                final int colon = line.indexOf(':');
+                final String tag = colon < 0 ? line : line.substring(0, colon);
+                final String value = colon < 0 ? "" : line.substring(colon + 1);
+                switch (tag) {
+                    case "#EXT-X-STREAM-INF":
+                        streamInf = attributes(value);
+                        break;
+                    case "#EXT-X-MEDIA-SEQUENCE":
+                        sequence = Long.parseLong(value.trim());
+                        break;
+                    case "#EXTINF":
+                        final int comma = value.indexOf(',');
+                        duration = Double.parseDouble((comma < 0 ? value : value.substring(0, comma)).trim());
+                        break;
+                    case "#EXT-X-BYTERANGE":
+                        byteRange = byteRange(value);
+                        break;
+                    case "#EXT-X-KEY":
+                        key = key(base, attributes(value));
+                        break;
+                    case "#EXT-X-MAP":
+                        final Map<String, String> attrs = attributes(value);
+                        map = resolve(base, attrs.get("URI"));
+                        mapRange = attrs.containsKey("BYTERANGE") ? byteRange(attrs.get("BYTERANGE")) : null;
+                        mapKey = key;
+                        break;
+                    case "#EXT-X-ENDLIST":
+                        endList = true;
+                        break;
+                    default:
+                        break;
+                }
+                continue;
+            }
+            final String uri = resolve(base, line);
+            if (Objects.nonNull(streamInf)) {
+                variants.add(new Variant(uri, parseLong(streamInf.get("BANDWIDTH")), streamInf.get("RESOLUTION")));
+                streamInf = null;
+                continue;
+            }
+            if (Objects.nonNull(map) && !map.equals(lastMap)) {
+                final long mapOffset = Objects.isNull(mapRange) ? -1L : Math.max(0L, mapRange[1]);
+                final long mapLength = Objects.isNull(mapRange) ? -1L : mapRange[0];
+                segments.add(new Segment(map, 0, sequence, mapKey, mapOffset, mapLength, true));
+                lastMap = map;
+            }
+            long offset = -1L;
+            long length = -1L;
+            if (Objects.nonNull(byteRange)) {
+                length = byteRange[0];
+                offset = byteRange[1] >= 0 ? byteRange[1] : rangeEnds.getOrDefault(uri, 0L);
+                rangeEnds.put(uri, offset + length);
+                byteRange = null;
+            }
+            segments.add(new Segment(uri, duration, sequence, key, offset, length, false));
+            sequence++;
+            duration = 0;
+        }
+        final boolean master = !variants.isEmpty();
+        if (!master && segments.isEmpty()) {
+            throw new M3u8Exception("播放列表中没有任何分片：" + url);
+        }
+        return new M3u8Playlist(master, variants, segments, endList);
+    }
+
+    public boolean isMaster() {
+        return master;
+    }
+
+    public List<Variant> getVariants() {
+        return variants;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public boolean isEndList() {
+        return endList;
+    }
+
+    /**
+     * 选择码率：不超过上限的最高码率，都超过时取最低码率
+     *
+     * @param maxBandwidth 码率上限，不大于 0 表示不限
+     * @return {@link Variant}
+     * @method selectVariant
+     * @date 2026/10/17 21:55
+     */
+    public Variant selectVariant(long maxBandwidth) {
+        Variant best = null;
+        Variant lowest = null;
+        for (Variant variant : variants) {
+            if (Objects.isNull(lowest) || variant.bandwidth < lowest.bandwidth) {
+                lowest = variant;
+            }
+            if ((maxBandwidth <= 0 || variant.bandwidth <= maxBandwidth)
+                && (Objects.isNull(best) || variant.bandwidth > best.bandwidth)) {
+                best = variant;
+            }
+        }
+        return Objects.nonNull(best) ? best : lowest;
+    }
+
+    private static Key key(HttpUrl base, Map<String, String> attributes) {
+        final String method = attributes.getOrDefault("METHOD", "NONE");
+        if ("NONE".equals(method)) {
+            return null;
+        }
+        if (!"AES-128".equals(method)) {
+            throw new M3u8Exception("不支持的加密方式：" + method);
+        }
+        final String uri = attributes.get("URI");
+        if (Objects.isNull(uri)) {
+            throw new M3u8Exception("AES-128 加密缺少密钥地址");
+        }
+        final String iv = attributes.get("IV");
+        return new Key(resolve(base, uri), Objects.isNull(iv) ? null : hexIv(iv));
+    }
+
+    /**
+     * 解析 {@code <长度>[@<偏移>]}，无偏移时偏移为 -1
+     */
+    private static long[] byteRange(String value) {
+        final String[] parts = value.trim().split("@");
+        return new long[]{Long.parseLong(parts[0]), parts.length > 1 ? Long.parseLong(parts[1]) : -1L};
+    }
+
+    private static byte[] hexIv(String value) {
+        final String hex = value.startsWith("0x") || value.startsWith("0X") ? value.substring(2) : value;
+        final byte[] raw = new BigInteger(hex, 16).toByteArray();
+        final byte[] iv = new byte[16];
+        // BigInteger 可能多出符号字节或缺少前导零
+        final int copy = Math.min(raw.length, 16);
+        System.arraycopy(raw, raw.length - copy, iv, 16 - copy, copy);
+        return iv;
+    }
+
+    private static Map<String, String> attributes(String value) {
+        final Map<String, String> attributes = new HashMap<>();
+        final Matcher matcher = ATTRIBUTE.matcher(value);
+        while (matcher.find()) {
+            String v = matcher.group(2);
+            if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+                v = v.substring(1, v.length() - 1);
+            }
+            attributes.put(matcher.group(1), v);
+        }
+        return attributes;
+    }
+
+    private static String resolve(HttpUrl base, String uri) {
+        final HttpUrl resolved = Objects.isNull(uri) ? null : base.resolve(uri.trim());
+        if (Objects.isNull(resolved)) {
+            throw new M3u8Exception("非法的地址：" + uri);
+        }
+        return resolved.toString();
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Objects.isNull(value) ? 0L : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 码率
+     */
+    public static class Variant {
+
+        private final String uri;
+
+        private final long bandwidth;
+
+        private final String resolution;
+
+        private Variant(String uri, long bandwidth, String resolution) {
+            this.uri = uri;
+            this.bandwidth = bandwidth;
+            this.resolution = resolution;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public long getBandwidth() {
+            return bandwidth;
+        }
+
+        public String getResolution() {
+            return resolution;
+        }
+    }
+
+    /**
+     * 分片
+     */
+    public static class Segment {
+
+        private final String uri;
+
+        private final double duration;
+
+        /**
+         * 媒体序号，未指定 IV 时作为 IV
+         */
+        private final long sequence;
+
+        /**
+         * 密钥，未加密时为空
+         */
+        private final Key key;
+
+        /**
+         * 字节区间偏移，-1 表示整个资源
+         */
+        private final long offset;
+
+        private final long length;
+
+        /**
+         * 是否为初始化分片（#EXT-X-MAP）
+         */
+        private final boolean init;
+
+        private Segment(String uri, double duration, long sequence, Key key, long offset, long length, boolean init) {
+            this.uri = uri;
+            this.duration = duration;
+            this.sequence = sequence;
+            this.key = key;
+            this.offset = offset;
+            this.length = length;
+            this.init = init;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public double getDuration() {
+            return duration;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Key getKey() {
+            return key;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public boolean isInit() {
+            return init;
+        }
+
+        /**
+         * 解密 IV：显式指定时使用指定值，否则为 16 字节大端表示的媒体序号
+         *
+         * @return {@link byte[]}
+         * @method iv
+         * @date 2026/10/17 22:00
+         */
+        public byte[] iv() {
+            if (Objects.nonNull(key) && Objects.nonNull(key.iv)) {
+                return key.iv.clone();
+            }
+            final byte[] iv = new byte[16];
+            long value = sequence;
+            for (int i = 15; i >= 8; i--) {
+                iv[i] = (byte) value;
+                value >>>= 8;
+            }
+            return iv;
+        }
+    }
+
+    /**
+     * AES-128 密钥
+     */
+    public static class Key {
+
+        private final String uri;
+
+        private final byte[] iv;
+
+        private Key(String uri, byte[] iv) {
+            this.uri = uri;
+            this.iv = iv;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   ProgressTracker
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 20:00
+ * Description:    合并发布的下载进度统计
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 20:00    1.0.0         合并发布的下载进度统计
+ */
+
+import com.itblare.itools.file.download.listener.DownloadProgress;
+import com.itblare.itools.file.download.listener.DownloadProgressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 合并发布的下载进度统计
+ * <p>
+ * 下载线程每次写入后调用 {@link #add(int, long)}，开销仅为一次原子累加和一次时间比较；
+ * 距上次发布超过时间间隔（或累计字节超过阈值）时，由抢到发布权的那个线程计算速度、剩余时间并回调监听器，
+ * 其余线程不等待。速度取指数加权平均，避免单个周期的抖动。
+ *
+ * @author Blare
+ * @create 2026/10/17 20:00
+ * @since 1.0.0
+ */
+public class ProgressTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressTracker.class);
+
+    /**
+     * 速度平滑系数
+     */
+    private static final double ALPHA = 0.3;
+
+    private final String task;
+
+    private final long contentLength;
+
+    private final long initial;
+
+    private final DownloadProgressListener listener;
+
+    private final long intervalNanos;
+
+    private final long byteThreshold;
+
+    /**
+     * 各分段累计字节数
+     */
+    private final AtomicLongArray segments;
+
+    /**
+     * 自上次发布以来的字节数，仅在启用字节阈值时维护
+     */
+    private final AtomicLong sincePublish = new AtomicLong();
+
+    /**
+     * 发布权：下载线程只尝试获取，最终事件阻塞等待正在进行的发布
+     */
+    private final ReentrantLock publishing = new ReentrantLock();
+
+    private final long startNanos;
+
+    private volatile long nextPublishNanos;
+
+    /**
+     * 以下字段仅由持有发布权的线程访问
+     */
+    private long lastNanos;
+
+    private long lastTotal;
+
+    private final long[] lastSegments;
+
+    private final long[] segmentRates;
+
+    private double rate = -1;
+
+    /**
+     * 构造进度统计
+     *
+     * @param task           下载任务名
+     * @param contentLength  文件总大小，未知时为 -1
+     * @param initial        已完成字节数（续传）
+     * @param segmentCount   分段数
+     * @param listener       监听器
+     * @param intervalMillis 发布间隔（毫秒）
+     * @param byteThreshold  累计字节阈值，不大于 0 表示只按时间发布
+     */
+    public ProgressTracker(String task, long contentLength, long initial, int segmentCount,
+                           DownloadProgressListener listener, long intervalMillis, long byteThreshold) {
+        this.task = task;
+        this.contentLength = contentLength;
+        this.initial = initial;
+        this.listener = Objects.requireNonNull(listener);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, intervalMillis));
+        this.byteThreshold = byteThreshold;
+        this.segments = new AtomicLongArray(Math.max(1, segmentCount));
+        this.lastSegments = new long[segments.length()];
+        this.segmentRates = new long[segments.length()];
+        this.startNanos = System.nanoTime();
+        this.lastNanos = startNanos;
+        this.lastTotal = initial;
+        this.nextPublishNanos = startNanos + intervalNanos;
+    }
+
+    /**
+     * 发布开始事件
+     *
+     * @method start
+     * @date 2026/10/17 20:10
+     */
+    public void start() {
+        notify(listener::onStart, new DownloadProgress(task, contentLength, initial, 0L, -1L, 0L, new long[segments.length()]));
+    }
+
+    /**
+     * 记录分段写入的字节数，达到阈值时发布进度
+     *
+     * @param segment 分段序号
+     * @param bytes   字节数
+     * @method add
+     * @date 2026/10/17 20:12
+     */
+    public void add(int segment, long bytes) {
+        segments.addAndGet(segment, bytes);
+        final long now = System.nanoTime();
+        final boolean due = now - nextPublishNanos >= 0
+            || (byteThreshold > 0 && sincePublish.addAndGet(bytes) >= byteThreshold);
+        if (due && publishing.tryLock()) {
+            try {
+                nextPublishNanos = now + intervalNanos;
+                sincePublish.set(0L);
+                notify(listener::onProgress, snapshot(now));
+            } finally {
+                publishing.unlock();
+            }
+        }
+    }
+
+    /**
+     * 发布完成事件
+     *
+     * @method complete
+     * @date 2026/10/17 20:14
+     */
+    public void complete() {
+        notify(listener::onComplete, finalSnapshot());
+    }
+
+    /**
+     * 发布失败事件
+     *
+     * @param cause 异常
+     * @method fail
+     * @date 2026/10/17 20:15
+     */
+    public void fail(Throwable cause) {
+        final DownloadProgress progress = finalSnapshot();
+        notify(p -> listener.onFailure(p, cause), progress);
+    }
+
+    /**
+     * 已下载字节数（含续传前已完成部分）
+     *
+     * @return {@link long}
+     * @method getDownloaded
+     * @date 2026/10/17 20:16
+     */
+    public long getDownloaded() {
+        long total = initial;
+        for (int i = 0; i < segments.length(); i++) {
+            total += segments.get(i);
+        }
+        return total;
+    }
+
+    private DownloadProgress finalSnapshot() {
+        // 等待正在进行的发布结束，保证最终事件在最后
+        publishing.lock();
+        try {
+            return snapshot(System.nanoTime());
+        } finally {
+            publishing.unlock();
+        }
+    }
+
+    /**
+     * 调用方需持有发布权（或处于单线程阶段）
+     */
+    private DownloadProgress snapshot(long now) {
+        final long elapsed = now - lastNanos;
+        long total = initial;
+        for (int i = 0; i < segments.length(); i++) {
+            final long current = segments.get(i);
+            total += current;
+            if (elapsed > 0) {
+                segmentRates[i] = (long) ((current - lastSegments[i]) * 1e9 / elapsed);
+            }
+            lastSegments[i] = current;
+        }
+        if (elapsed > 0) {
+            final double instant = (total - lastTotal) * 1e9 / elapsed;
+            rate = rate < 0 ? instant : ALPHA * instant + (1 - ALPHA) * rate;
+        }
+        lastNanos = now;
+        lastTotal = total;
+        final long bytesPerSecond = Math.max(0L, (long) rate);
+        final long eta = contentLength > 0 && bytesPerSecond > 0 ? (contentLength - total) * 1000L / bytesPerSecond : -1L;
+        return new DownloadProgress(task, contentLength, total, bytesPerSecond, eta,
+            TimeUnit.NANOSECONDS.toMillis(now - startNanos), segmentRates.clone());
+    }
+
+    private void notify(Consumer<DownloadProgress> callback, DownloadProgress progress) {
+        try {
+            callback.accept(progress);
+        } catch (RuntimeException e) {
+            LOGGER.warn("下载进度监听器执行异常", e);
+        }
+    }
+}
@@ -0,0 +1,704 @@
+package com.itblare.itools.file.download;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download
+ * ClassName:   SegmentedDownloader
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 18:30
+ * Description:    多连接分段下载器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 18:30    1.0.0         多连接分段下载器
+ */
+
+import com.itblare.itools.exception.FileException;
+import com.itblare.itools.exception.TaskException;
+import com.itblare.itools.file.download.listener.DownloadProgressListener;
+import com.itblare.itools.http.transport.HttpTransport;
+import com.itblare.itools.http.transport.HttpTransports;
+import com.itblare.itools.http.transport.TransportRequest;
+import com.itblare.itools.http.transport.TransportResponse;
+import com.itblare.itools.task.TaskCallableHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Duration;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 多连接分段下载器
+ * <p>
+ * 先以 {@code Range: bytes=0-0} 探测资源大小与是否支持断点续传；支持时预分配目标文件，按区间并发下载，
+ * 每个连接通过 {@link FileChannel#write(ByteBuffer, long)} 直接写入文件对应位置；不支持 Range、
+ * 大小不超过一个最小分段或探测返回 416（如空资源）时退化为不带 Range 的单个请求。
+ * 分段下载先写入同目录的 {@code <文件名>.part}，全部区间落盘且摘要校验通过后才原子地移动为目标文件，
+ * 目标文件名下不会出现残缺的文件。服务端提供校验标识（强 ETag 或 Last-Modified）时启用断点续传：
+ * 已落盘区间记录在 {@code .part} 旁的 {@link DownloadJournal} 中，下载中断后保留 {@code .part} 与日志，
+ * 再次下载同一资源到同一文件时校验标识未变则只补齐缺失区间。
+ * 可在写入的同时计算 SHA-256 / MD5 / CRC32C 摘要（见 {@link DownloadDigester}）并按期望值校验，无需下载后再读一遍文件。
+ * 设置 {@link DownloadProgressListener} 后按时间（或字节）阈值合并发布进度、速度与剩余时间。
+ * {@code file:} 地址与本地路径交给 {@link LocalFileDownloader} 在内核中复制。
+ * 默认使用 {@link HttpTransports#getDefault()}，与其他文件操作共享同一个连接池；下载请求不设整体超时，只受读超时限制。
+ *
+ * @author Blare
+ * @create 2026/10/17 18:30
+ * @since 1.0.0
+ */
+public class SegmentedDownloader extends AbstractDownloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentedDownloader.class);
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+|\\*)");
+
+    /**
+     * 416 响应的 Content-Range：bytes *&#47;总长度
+     */
+    private static final Pattern UNSATISFIED_RANGE = Pattern.compile("bytes\\s+\\*/(\\d+)");
+
+    /**
+     * 下载中文件的后缀
+     */
+    public static final String PART_SUFFIX = ".part";
+
+    /**
+     * 默认分段数
+     */
+    private static final int DEFAULT_SEGMENTS = 4;
+
+    /**
+     * 默认最小分段大小：1M
+     */
+    private static final long DEFAULT_MIN_SEGMENT_SIZE = 1024L * 1024L;
+
+    /**
+     * 默认写缓冲：64K
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 默认断点记录间隔：8M
+     */
+    private static final long DEFAULT_CHECKPOINT_SIZE = 8L * 1024L * 1024L;
+
+    /**
+     * 默认进度发布间隔：500 毫秒
+     */
+    private static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 500L;
+
+    /**
+     * HTTP 传输层
+     */
+    private HttpTransport transport;
+
+    /**
+     * 最大分段数
+     */
+    private int segments = DEFAULT_SEGMENTS;
+
+    /**
+     * 最小分段大小
+     */
+    private long minSegmentSize = DEFAULT_MIN_SEGMENT_SIZE;
+
+    /**
+     * 写缓冲大小
+     */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * 是否启用断点续传
+     */
+    private boolean resumable = true;
+
+    /**
+     * 每个分段每写入多少字节刷盘并记录一次断点
+     */
+    private long checkpointSize = DEFAULT_CHECKPOINT_SIZE;
+
+    /**
+     * 下载过程中计算的摘要算法
+     */
+    private Set<DigestAlgorithm> digestAlgorithms = EnumSet.noneOf(DigestAlgorithm.class);
+
+    /**
+     * 下载进度监听器
+     */
+    private DownloadProgressListener progressListener;
+
+    /**
+     * 进度发布间隔（毫秒）
+     */
+    private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+
+    /**
+     * 进度发布字节阈值，不大于 0 表示只按时间发布
+     */
+    private long progressByteThreshold;
+
+    /**
+     * 本地来源（file:// 与本地路径）走零拷贝复制，不经过 HTTP
+     */
+    private final LocalFileDownloader localDownloader = new LocalFileDownloader();
+
+    /**
+     * 带宽限制，可在多个下载器之间共享以限制总带宽
+     */
+    private BandwidthLimiter bandwidthLimiter;
+
+    /**
+     * 附加请求头
+     */
+    private Map<String, String> headers = new HashMap<>();
+
+    /**
+     * 分段下载线程池，为空时每个分段新建线程
+     */
+    private ExecutorService service;
+
+    public SegmentedDownloader() {
+        this(HttpTransports.getDefault());
+    }
+
+    public SegmentedDownloader(HttpTransport transport) {
+        this.transport = Objects.requireNonNull(transport);
+    }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(HttpTransport transport) {
+        this.transport = Objects.requireNonNull(transport);
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public void setSegments(int segments) {
+        this.segments = Math.max(1, segments);
+    }
+
+    public long getMinSegmentSize() {
+        return minSegmentSize;
+    }
+
+    public void setMinSegmentSize(long minSegmentSize) {
+        this.minSegmentSize = Math.max(1L, minSegmentSize);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = Math.max(4096, bufferSize);
+    }
+
+    public boolean isResumable() {
+        return resumable;
+    }
+
+    public void setResumable(boolean resumable) {
+        this.resumable = resumable;
+    }
+
+    public long getCheckpointSize() {
+        return checkpointSize;
+    }
+
+    public void setCheckpointSize(long checkpointSize) {
+        this.checkpointSize = Math.max(bufferSize, checkpointSize);
+    }
+
+    public Set<DigestAlgorithm> getDigestAlgorithms() {
+        return digestAlgorithms;
+    }
+
+    /**
+     * 设置下载过程中计算的摘要算法，结果见 {@link DownloadResult#getDigests()}
+     *
+     * @param algorithms 算法
+     * @method setDigestAlgorithms
+     * @date 2026/10/17 23:12
+     */
+    public void setDigestAlgorithms(DigestAlgorithm... algorithms) {
+        final Set<DigestAlgorithm> set = EnumSet.noneOf(DigestAlgorithm.class);
+        set.addAll(Arrays.asList(algorithms));
+        this.digestAlgorithms = set;
+    }
+
+    public DownloadProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    public void setProgressListener(DownloadProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public long getProgressIntervalMillis() {
+        return progressIntervalMillis;
+    }
+
+    public void setProgressIntervalMillis(long progressIntervalMillis) {
+        this.progressIntervalMillis = Math.max(1L, progressIntervalMillis);
+    }
+
+    public long getProgressByteThreshold() {
+        return progressByteThreshold;
+    }
+
+    public void setProgressByteThreshold(long progressByteThreshold) {
+        this.progressByteThreshold = progressByteThreshold;
+    }
+
+    /**
+     * 本地来源下载器，可用于开启硬链接
+     *
+     * @return {@link LocalFileDownloader}
+     * @method getLocalDownloader
+     * @date 2026/10/17 23:45
+     */
+    public LocalFileDownloader getLocalDownloader() {
+        return localDownloader;
+    }
+
+    public BandwidthLimiter getBandwidthLimiter() {
+        return bandwidthLimiter;
+    }
+
+    public void setBandwidthLimiter(BandwidthLimiter bandwidthLimiter) {
+        this.bandwidthLimiter = bandwidthLimiter;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = Objects.isNull(headers) ? new HashMap<>() : headers;
+    }
+
+    public ExecutorService getService() {
+        return service;
+    }
+
+    public void setService(ExecutorService service) {
+        this.service = service;
+    }
+
+    @Override
+    public DownloadResult download(String url, File target) {
+        return execute(url, target, segments, null, null);
+    }
+
+    /**
+     * 资源下载到指定文件，限定本次下载的最大分段数（连接数）
+     *
+     * @param url         下载链接
+     * @param target      目标文件
+     * @param maxSegments 最大分段数
+     * @return {@link DownloadResult}
+     * @throws FileException 下载失败
+     * @method download
+     * @date 2026/10/17 21:20
+     */
+    public DownloadResult download(String url, File target, int maxSegments) {
+        return execute(url, target, maxSegments, null, null);
+    }
+
+    /**
+     * 资源下载到指定文件，并用下载过程中计算的摘要校验，不一致时删除文件
+     *
+     * @param url       下载链接
+     * @param target    目标文件
+     * @param algorithm 摘要算法
+     * @param expected  期望的摘要（十六进制，不区分大小写）
+     * @return {@link DownloadResult}
+     * @throws FileException 下载失败或摘要不一致
+     * @method download
+     * @date 2026/10/17 23:15
+     */
+    public DownloadResult download(String url, File target, DigestAlgorithm algorithm, String expected) {
+        return execute(url, target, segments, Objects.requireNonNull(algorithm), Objects.requireNonNull(expected));
+    }
+
+    private DownloadResult execute(String url, File target, int maxSegments, DigestAlgorithm algorithm, String expected) {
+        final long start = System.currentTimeMillis();
+        final Set<DigestAlgorithm> algorithms = EnumSet.noneOf(DigestAlgorithm.class);
+        algorithms.addAll(digestAlgorithms);
+        if (Objects.nonNull(algorithm)) {
+            algorithms.add(algorithm);
+        }
+        final DownloadResult result;
+        if (LocalFileDownloader.isLocal(url)) {
+            result = localDownloader.copy(url, target, algorithms);
+        } else {
+            final Probe probe;
+            try {
+                probe = probe(url);
+            } catch (IOException e) {
+                throw new FileException("资源探测失败：" + url, e);
+            }
+            // 一个分段即可容纳时不必走 Range 与断点日志
+            if (probe.acceptRanges && probe.contentLength > minSegmentSize) {
+                // 在移动为目标文件之前校验摘要
+                return downloadRanges(url, probe, target, Math.max(1, maxSegments), algorithms, algorithm, expected, start);
+            }
+            result = downloadStream(url, probe, target, algorithms, start);
+        }
+        verify(url, target, result.getDigests(), algorithm, expected);
+        return result;
+    }
+
+    /**
+     * 校验摘要，不一致时删除文件
+     */
+    private static void verify(String url, File file, Map<DigestAlgorithm, String> digests, DigestAlgorithm algorithm,
+                               String expected) {
+        if (Objects.nonNull(algorithm) && !expected.equalsIgnoreCase(digests.get(algorithm))) {
+            delete(file);
+            throw new FileException("摘要校验失败（" + algorithm.getAlgorithm() + "）：期望 " + expected
+                + " 实际 " + digests.get(algorithm) + "，" + url);
+        }
+    }
+
+    private static void delete(File file) {
+        if (file.exists() && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * 单连接下载，失败时删除残缺文件
+     */
+    private DownloadResult downloadStream(String url, Probe probe, File target, Set<DigestAlgorithm> algorithms, long start) {
+        final ProgressTracker tracker = newTracker(target, probe.contentLength, 0L, 1);
+        final Map<DigestAlgorithm, String> digests;
+        try (RandomAccessFile file = new RandomAccessFile(target, "rw");
+             FileChannel channel = file.getChannel()) {
+            file.setLength(0L);
+            final DownloadDigester digester = algorithms.isEmpty() ? null : new DownloadDigester(algorithms, channel);
+            final long written = fetch(url, probe, new Transfer(channel, null, tracker, digester), 0, 0L, -1L);
+            file.setLength(written);
+            digests = Objects.isNull(digester) ? Collections.emptyMap() : digester.finish(written);
+        } catch (IOException | RuntimeException e) {
+            delete(target);
+            final FileException failure = failure(url, e);
+            if (Objects.nonNull(tracker)) {
+                tracker.fail(failure);
+            }
+            throw failure;
+        }
+        if (Objects.nonNull(tracker)) {
+            tracker.complete();
+        }
+        return new DownloadResult(target, target.length(), 1, System.currentTimeMillis() - start, digests);
+    }
+
+    /**
+     * 按区间并发下载缺失部分到 {@code .part} 文件，完成并校验后移动为目标文件
+     */
+    private DownloadResult downloadRanges(String url, Probe probe, File target, int maxSegments,
+                                         Set<DigestAlgorithm> algorithms, DigestAlgorithm algorithm, String expected,
+                                         long start) {
+        final File part = new File(target.getPath() + PART_SUFFIX);
+        final DownloadJournal journal = resumable && Objects.nonNull(probe.validator)
+            ? DownloadJournal.open(part, url, probe.contentLength, probe.validator) : null;
+        final List<long[]> missing = Objects.isNull(journal)
+            ? Collections.singletonList(new long[]{0L, probe.contentLength}) : journal.missing();
+        final List<long[]> pieces = split(missing, maxSegments);
+        final ProgressTracker tracker = newTracker(target, probe.contentLength,
+            Objects.isNull(journal) ? 0L : journal.getCompletedBytes(), pieces.size());
+        final Map<DigestAlgorithm, String> digests;
+        try (RandomAccessFile file = new RandomAccessFile(part, "rw");
+             FileChannel channel = file.getChannel()) {
+            if (Objects.isNull(journal) || journal.isFresh()) {
+                file.setLength(probe.contentLength);
+            }
+            final DownloadDigester digester = algorithms.isEmpty() ? null : new DownloadDigester(algorithms, channel);
+            if (Objects.nonNull(digester)) {
+                // 续传前已完成的区间只能从文件读回
+                long position = 0L;
+                for (long[] range : missing) {
+                    digester.completed(position, range[0]);
+                    position = range[1];
+                }
+                digester.completed(position, probe.contentLength);
+                // 文件开头连续的已完成部分只读回一次，游标推进后各分段的写入仍在内存中计算
+                digester.restore();
+            }
+            final Transfer transfer = new Transfer(channel, journal, tracker, digester);
+            final TaskCallableHandler<Long> handler = new TaskCallableHandler<>(service);
+            for (int i = 0; i < pieces.size(); i++) {
+                final int segment = i;
+                final long[] piece = pieces.get(i);
+                handler.addTask(() -> fetch(url, probe, transfer, segment, piece[0], piece[1] - 1));
+            }
+            handler.run();
+            digests = Objects.isNull(digester) ? Collections.emptyMap() : digester.finish(probe.contentLength);
+        } catch (IOException | RuntimeException e) {
+            if (Objects.isNull(journal)) {
+                delete(part);
+            } else {
+                LOGGER.info("下载中断，已完成 {}/{} 字节，可续传：{}", journal.getCompletedBytes(), probe.contentLength, url);
+            }
+            final FileException failure = failure(url, e);
+            if (Objects.nonNull(tracker)) {
+                tracker.fail(failure);
+            }
+            throw failure;
+        }
+        if (Objects.nonNull(journal)) {
+            journal.delete();
+        }
+        try {
+            verify(url, part, digests, algorithm, expected);
+            move(part, target);
+        } catch (IOException | RuntimeException e) {
+            final FileException failure = e instanceof FileException ? (FileException) e
+                : new FileException("下载完成但无法移动为目标文件：" + part, e);
+            if (Objects.nonNull(tracker)) {
+                tracker.fail(failure);
+            }
+            throw failure;
+        }
+        if (Objects.nonNull(tracker)) {
+            tracker.complete();
+        }
+        return new DownloadResult(target, target.length(), pieces.size(), System.currentTimeMillis() - start, digests);
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 未设置监听器时返回 null，下载路径上不产生任何统计开销
+     */
+    private ProgressTracker newTracker(File target, long contentLength, long initial, int segmentCount) {
+        final DownloadProgressListener listener = progressListener;
+        if (Objects.isNull(listener)) {
+            return null;
+        }
+        final ProgressTracker tracker = new ProgressTracker(target.getName(), contentLength, initial, segmentCount,
+            listener, progressIntervalMillis, progressByteThreshold);
+        tracker.start();
+        return tracker;
+    }
+
+    /**
+     * 将缺失区间切分为分段：总量按分段数均分，每段不小于最小分段大小
+     */
+    private List<long[]> split(List<long[]> missing, int maxSegments) {
+        long total = 0L;
+        for (long[] range : missing) {
+            total += range[1] - range[0];
+        }
+        final long size = Math.max(minSegmentSize, (total + maxSegments - 1) / maxSegments);
+        final List<long[]> pieces = new ArrayList<>();
+        for (long[] range : missing) {
+            for (long from = range[0]; from < range[1]; from += size) {
+                final long to = Math.min(range[1], from + size);
+                // 末尾不足半段的零头并入前一段
+                if (range[1] - to < size / 2) {
+                    pieces.add(new long[]{from, range[1]});
+                    break;
+                }
+                pieces.add(new long[]{from, to});
+            }
+        }
+        return pieces;
+    }
+
+    private static FileException failure(String url, Exception e) {
+        if (e instanceof FileException) {
+            return (FileException) e;
+        }
+        return new FileException("资源下载失败：" + url, e instanceof TaskException && Objects.nonNull(e.getCause()) ? e.getCause() : e);
+    }
+
+    /**
+     * 下载一个区间并写入文件对应位置
+     *
+     * @param transfer 写入目标
+     * @param segment  分段序号
+     * @param from     起始位置（含）
+     * @param to       结束位置（含），-1 表示不带 Range 的整体下载
+     * @return {@link long} 写入字节数
+     */
+    private long fetch(String url, Probe probe, Transfer transfer, int segment, long from, long to) throws IOException {
+        final TransportRequest request = newRequest(url);
+        if (to >= 0) {
+            request.header("Range", "bytes=" + from + "-" + to);
+            // 资源在两次请求之间变化时服务端返回 200 整体内容，据此发现变更
+            if (Objects.nonNull(probe.validator)) {
+                request.header("If-Range", probe.validator);
+            }
+        }
+        try (TransportResponse response = transport.execute(request)) {
+            if (to >= 0 && 206 != response.code()) {
+                throw new FileException("分段请求未返回 206（资源可能已变更）：" + response.code());
+            }
+            if (!response.isSuccessful()) {
+                throw new FileException("下载请求失败：" + response.code());
+            }
+            final long written = write(Channels.newChannel(response.body()), transfer, segment, from);
+            if (to >= 0 && written != to - from + 1) {
+                throw new IOException("分段数据不完整：期望 " + (to - from + 1) + " 实际 " + written);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * 从响应体读取并按位置写入，缓冲写满再落盘以减少系统调用；有断点日志时按间隔记录已写区间
+     */
+    private long write(ReadableByteChannel source, Transfer transfer, int segment, long position) throws IOException {
+        final FileChannel channel = transfer.channel;
+        final DownloadJournal journal = transfer.journal;
+        final ProgressTracker tracker = transfer.tracker;
+        final DownloadDigester digester = transfer.digester;
+        final BandwidthLimiter limiter = bandwidthLimiter;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        long offset = position;
+        long checkpoint = position;
+        boolean eof = false;
+        while (!eof) {
+            while (buffer.hasRemaining()) {
+                if (-1 == source.read(buffer)) {
+                    eof = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            final int size = buffer.remaining();
+            if (Objects.nonNull(limiter)) {
+                limiter.acquire(size);
+            }
+            final long written = offset;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+            if (Objects.nonNull(digester) && size > 0) {
+                buffer.flip();
+                digester.written(written, buffer);
+            }
+            buffer.clear();
+            if (Objects.nonNull(tracker) && size > 0) {
+                tracker.add(segment, size);
+            }
+            if (Objects.nonNull(journal) && (eof || offset - checkpoint >= checkpointSize)) {
+                journal.commit(channel, checkpoint, offset);
+                checkpoint = offset;
+            }
+        }
+        return offset - position;
+    }
+
+    /**
+     * 探测资源大小、是否支持 Range 及校验标识（强 ETag 优先，其次 Last-Modified；弱 ETag 不能用于 If-Range）
+     */
+    private Probe probe(String url) throws IOException {
+        final TransportRequest request = newRequest(url).header("Range", "bytes=0-0");
+        try (TransportResponse response = transport.execute(request)) {
+            if (416 == response.code()) {
+                // 空资源没有可满足的区间；按 Content-Range 中的总长度（没有则未知）改用整体下载
+                final Matcher matcher = UNSATISFIED_RANGE.matcher(Objects.toString(response.header("Content-Range"), ""));
+                return new Probe(matcher.find() ? Long.parseLong(matcher.group(1)) : -1L, false, null);
+            }
+            if (!response.isSuccessful()) {
+                throw new FileException("资源探测失败：" + response.code());
+            }
+            final String etag = response.header("ETag");
+            final String validator = Objects.nonNull(etag) && !etag.startsWith("W/") ? etag : response.header("Last-Modified");
+            if (206 == response.code()) {
+                final Matcher matcher = CONTENT_RANGE.matcher(Objects.toString(response.header("Content-Range"), ""));
+                if (matcher.find() && !"*".equals(matcher.group(3))) {
+                    return new Probe(Long.parseLong(matcher.group(3)), true, validator);
+                }
+            }
+            return new Probe(response.contentLength(), false, validator);
+        }
+    }
+
+    private TransportRequest newRequest(String url) {
+        return TransportRequest.get(url)
+            .headers(headers)
+            .timeout(Duration.ZERO);
+    }
+
+    /**
+     * 单次下载的写入目标
+     */
+    private static class Transfer {
+
+        private final FileChannel channel;
+
+        /**
+         * 断点日志，可为空
+         */
+        private final DownloadJournal journal;
+
+        /**
+         * 进度统计，可为空
+         */
+        private final ProgressTracker tracker;
+
+        /**
+         * 摘要计算，可为空
+         */
+        private final DownloadDigester digester;
+
+        private Transfer(FileChannel channel, DownloadJournal journal, ProgressTracker tracker, DownloadDigester digester) {
+            this.channel = channel;
+            this.journal = journal;
+            this.tracker = tracker;
+            this.digester = digester;
+        }
+    }
+
+    /**
+     * 探测结果
+     */
+    private static class Probe {
+
+        private final long contentLength;
+
+        private final boolean acceptRanges;
+
+        private final String validator;
+
+        private Probe(long contentLength, boolean acceptRanges, String validator) {
+            this.contentLength = contentLength;
+            this.acceptRanges = acceptRanges;
+            this.validator = validator;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.itblare.itools.file.download.listener;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.file.download.listener
+ * ClassName:   DownloadProgress
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 19:40
+ * Description:    下载进度快照
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 19:40    1.0.0         下载进度快照
+ */
+
+/**
+ * 下载进度快照
+ *
+ * @author Blare
+ * @create 2026/10/17 19:40
+ * @since 1.0.0
+ */
+public class DownloadProgress {
+
+    /**
+     * 下载任务名
+     */
+    private final String task;
+
+    /**
+     * 文件总大小，未知时为 -1
+     */
+    private final long contentLength;
+
+    /**
+     * 已下载字节数（含续传前已完成部分）
+     */
+    private final long downloaded;
+
+    /**
+     * 平滑后的下载速度（字节/秒）
+     */
+    private final long bytesPerSecond;
+
+    /**
+     * 预计剩余时间（毫秒），未知时为 -1
+     */
+    private final long etaMillis;
+
+    /**
+     * 已耗时（毫秒）
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 各分段最近一个统计周期的速度（字节/秒）
+     */
+    private final long[] segmentBytesPerSecond;
+
+    public DownloadProgress(String task, long contentLength, long downloaded, long bytesPerSecond,
+                            long etaMillis, long elapsedMillis, long[] segmentBytesPerSecond) {
+        this.task = task;
+        this.contentLength = contentLength;
+        this.downloaded = downloaded;
+        this.bytesPerSecond = bytesPerSecond;
+        this.etaMillis = etaMillis;
+        this.elapsedMillis = elapsedMillis;
+        this.segmentBytesPerSecond = segmentBytesPerSecond;
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public long getDownloaded() {
+        return downloaded;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public long getEtaMillis() {
+        return etaMillis;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long[] getSegmentBytesPerSecond() {
+        return segmentBytesPerSecond.clone();
+    }
+
+    /**
+     * 完成百分比，总大小未知时为 -1
+     *
+     * @return {@link double}
+     * @method getPercent
+     * @date 2026/10/17 19:45
+     */
+    public double getPercent() {
+        return contentLength > 0 ? downloaded * 100.0 / contentLength : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadProgress{" +
+            "task='" + task + '\'' +
+            ", contentLength=" + contentLength +
+            ", downloaded=" + downloaded +
+            ", bytesPerSecond=" + bytesPerSecond +
+            ", etaMillis=" + etaMillis +
+            ", elapsedMillis=" + elapsedMillis +
+            ", segments=" + segmentBytesPerSecond.length +
+            '}';
+    }
+}
@@ -12,12 +12,89 @@ package com.itblare.itools.file.download.listener;
  * Blare           2021/4/27 0:09    1.0.0         下载进度监听器
  */
 
+import com.itblare.itools.file.download.printer.DownloadProgressPrinter;
+
+import java.util.Objects;
+
 /**
  * 下载进度监听器
+ * <p>
+ * 进度事件按时间或字节阈值合并后发布（而不是每次读取都回调），回调在某个下载线程中同步执行，应尽量轻量；
+ * 同一次下载的回调不会并发执行。
  *
  * @author Blare
  * @create 2021/4/27 0:09
  * @since 1.0.0
  */
 public interface DownloadProgressListener {
+
+    /**
+     * 下载开始
+     *
+     * @param progress 初始进度（续传时已下载字节数不为 0）
+     * @method onStart
+     * @date 2026/10/17 19:50
+     */
+    default void onStart(DownloadProgress progress) {
+    }
+
+    /**
+     * 下载进度
+     *
+     * @param progress 进度快照
+     * @method onProgress
+     * @date 2026/10/17 19:51
+     */
+    void onProgress(DownloadProgress progress);
+
+    /**
+     * 下载完成
+     *
+     * @param progress 最终进度
+     * @method onComplete
+     * @date 2026/10/17 19:52
+     */
+    default void onComplete(DownloadProgress progress) {
+    }
+
+    /**
+     * 下载失败
+     *
+     * @param progress 失败时的进度
+     * @param cause    异常
+     * @method onFailure
+     * @date 2026/10/17 19:53
+     */
+    default void onFailure(DownloadProgress progress, Throwable cause) {
+    }
+
+    /**
+     * 将进度输出到 {@link DownloadProgressPrinter}
+     *
+     * @param printer 进度输出
+     * @return {@link DownloadProgressListener}
+     * @method printTo
+     * @date 2026/10/17 19:55
+     */
+    static DownloadProgressListener printTo(DownloadProgressPrinter printer) {
+        Objects.requireNonNull(printer);
+        return new DownloadProgressListener() {
+
+            @Override
+            public void onStart(DownloadProgress progress) {
+                printer.setContentLength(progress.getContentLength());
+                onProgress(progress);
+            }
+
+            @Override
+            public void onProgress(DownloadProgress progress) {
+                printer.printInfo(progress.getTask(), progress.getContentLength(), progress.getDownloaded(), progress.getBytesPerSecond());
+            }
+
+            @Override
+            public void onComplete(DownloadProgress progress) {
+                onProgress(progress);
+            }
+        };
+    }
 }
@@ -0,0 +1,213 @@
+package com.itblare.itools.http;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http
+ * ClassName:   HttpClientProfile
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 13:00
+ * Description:    HTTP 客户端配置
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 13:00    1.0.0         HTTP 客户端配置
+ */
+
+import java.util.Objects;
+
+/**
+ * HTTP 客户端配置
+ * <p>
+ * 一个配置对应 {@link OkHttpClientProfiles} 中的一个命名客户端，默认值与 {@link OkHttpClient} 的默认客户端相同。
+ * 超时单位为毫秒，0 表示不限。
+ * <pre>
+ * HttpClientProfile profile = new HttpClientProfile("third-party");
+ * profile.setReadTimeoutMillis(120_000);
+ * profile.setMaxRequestsPerHost(4);
+ * OkHttpClientProfiles.register(profile);
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 13:00
+ * @since 1.0.0
+ */
+public class HttpClientProfile {
+
+    private final String name;
+
+    private long connectTimeoutMillis = 10_000L;
+
+    private long readTimeoutMillis = 30_000L;
+
+    private long writeTimeoutMillis = 10_000L;
+
+    /**
+     * 整体调用超时
+     */
+    private long callTimeoutMillis = 10_000L;
+
+    /**
+     * 异步请求的最大并发数
+     */
+    private int maxRequests = 256;
+
+    /**
+     * 异步请求对单个主机的最大并发数
+     */
+    private int maxRequestsPerHost = 16;
+
+    /**
+     * 连接池最大空闲连接数
+     */
+    private int maxIdleConnections = 32;
+
+    /**
+     * 空闲连接保持时间
+     */
+    private long keepAliveMillis = 5 * 60_000L;
+
+    /**
+     * 请求体 gzip 压缩阈值（字节），小于 0 表示不压缩
+     */
+    private long compressionThreshold = -1L;
+
+    /**
+     * 协议协商方式
+     */
+    private ProtocolMode protocolMode = ProtocolMode.AUTO;
+
+    public HttpClientProfile(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(long connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public void setReadTimeoutMillis(long readTimeoutMillis) {
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    public long getWriteTimeoutMillis() {
+        return writeTimeoutMillis;
+    }
+
+    public void setWriteTimeoutMillis(long writeTimeoutMillis) {
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    public long getCallTimeoutMillis() {
+        return callTimeoutMillis;
+    }
+
+    public void setCallTimeoutMillis(long callTimeoutMillis) {
+        this.callTimeoutMillis = callTimeoutMillis;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public void setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * 设置请求体 gzip 压缩阈值：长度不小于阈值的请求体压缩后发送，需服务端支持 {@code Content-Encoding: gzip} 的请求
+     *
+     * @param compressionThreshold 阈值（字节），小于 0 表示不压缩
+     * @method setCompressionThreshold
+     * @date 2026/10/18 18:20
+     */
+    public void setCompressionThreshold(long compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public ProtocolMode getProtocolMode() {
+        return protocolMode;
+    }
+
+    public void setProtocolMode(ProtocolMode protocolMode) {
+        this.protocolMode = Objects.requireNonNull(protocolMode);
+    }
+
+    @Override
+    public String toString() {
+        return "HttpClientProfile{" +
+            "name='" + name + '\'' +
+            ", connectTimeoutMillis=" + connectTimeoutMillis +
+            ", readTimeoutMillis=" + readTimeoutMillis +
+            ", writeTimeoutMillis=" + writeTimeoutMillis +
+            ", callTimeoutMillis=" + callTimeoutMillis +
+            ", maxRequests=" + maxRequests +
+            ", maxRequestsPerHost=" + maxRequestsPerHost +
+            ", maxIdleConnections=" + maxIdleConnections +
+            ", keepAliveMillis=" + keepAliveMillis +
+            ", compressionThreshold=" + compressionThreshold +
+            ", protocolMode=" + protocolMode +
+            '}';
+    }
+
+    /**
+     * 协议协商方式
+     * <p>
+     * HTTP/2 下同一主机的并发请求复用一条连接，{@link #setMaxRequestsPerHost(int)} 限制的是流而不是连接数，可适当调大。
+     */
+    public enum ProtocolMode {
+
+        /**
+         * HTTPS 经 ALPN 协商 HTTP/2，不支持时及明文请求使用 HTTP/1.1
+         */
+        AUTO,
+
+        /**
+         * 始终使用 HTTP/1.1
+         */
+        HTTP_1_1,
+
+        /**
+         * 明文 HTTP/2（h2c prior knowledge），不经升级直接发送 HTTP/2 帧，仅适用于确认支持 h2c 的 http:// 服务；
+         * 该模式下 https:// 请求会失败
+         */
+        H2C_PRIOR_KNOWLEDGE
+    }
+}
@@ -12,7 +12,20 @@ package com.itblare.itools.http;
  * Blare           2021/4/15 17:12    1.0.0             OK HTTP 客户端
  */
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itblare.itools.http.cache.HttpResponseCache;
+import com.itblare.itools.http.interceptor.CircuitBreakerInterceptor;
+import com.itblare.itools.http.interceptor.HedgingInterceptor;
+import com.itblare.itools.http.interceptor.RequestCompressionInterceptor;
+import com.itblare.itools.http.interceptor.ResilientClients;
+import com.itblare.itools.http.interceptor.ResponseDecompressionInterceptor;
+import com.itblare.itools.http.interceptor.RetryInterceptor;
+import com.itblare.itools.http.interceptor.SingleFlightInterceptor;
 import okhttp3.*;
+import okio.BufferedSource;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +35,7 @@ import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
@@ -29,9 +43,12 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * OK HTTP 客户端
@@ -44,10 +61,30 @@ public class OkHttpClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpClient.class);
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * 分块读取响应体的缓冲大小：64K
+     */
+    private static final int BODY_BUFFER_SIZE = 64 * 1024;
+
     /**
      * 默认 http 客户端
      */
     private static final okhttp3.OkHttpClient okHttpClient;
+    /**
+     * 便捷方法使用的请求合并拦截器
+     */
+    private static final SingleFlightInterceptor SINGLE_FLIGHT = new SingleFlightInterceptor();
+    /**
+     * 便捷方法使用的客户端，延迟构建
+     */
+    private static volatile okhttp3.OkHttpClient resilientClient;
+    /**
+     * 便捷方法使用的响应缓存与请求体压缩阈值，由类锁保护
+     */
+    private static HttpResponseCache responseCache;
+    private static long compressionThreshold = -1L;
     /**
      * 连接超时时间 单位秒(默认10s)
      */
@@ -61,9 +98,9 @@ public class OkHttpClient {
      */
     private static final int READ_TIMEOUT = 30;
     /**
-     * 底层HTTP库所有的并发执行的请求数量
+     * 底层HTTP库所有的并发执行的请求数量（只约束异步请求，同步请求不受限）
      */
-    private static final int DISPATCHER_MAX_REQUESTS = 64;
+    private static final int DISPATCHER_MAX_REQUESTS = 256;
     /**
      * 底层HTTP库对每个独立的Host进行并发请求的数量
      */
@@ -95,6 +132,97 @@ public class OkHttpClient {
             .build();
     }
 
+    /**
+     * 默认 OkHttp3 客户端，需要不同超时的场景可通过 {@code newBuilder()} 派生，派生客户端共享连接池与调度线程；
+     * 需要独立连接池与并发上限时使用 {@link OkHttpClientProfiles}
+     *
+     * @return {@link okhttp3.OkHttpClient}
+     * @method getDefaultClient
+     * @date 2026/10/17 18:10
+     */
+    public static okhttp3.OkHttpClient getDefaultClient() {
+        return okHttpClient;
+    }
+
+    /**
+     * 带重试、对冲与熔断的默认客户端（见 {@link ResilientClients}），与默认客户端共享连接池与调度线程。
+     * 不传客户端的便捷方法均使用该客户端：幂等请求失败时按退避重试，慢请求按 p95 耗时对冲，
+     * 持续失败的主机熔断后请求立即失败（便捷方法返回 null）而不再等满超时，同时在途的相同 GET 只发出一次。
+     * 通过 {@link #setResponseCache(HttpResponseCache)} 启用缓存后，该客户端同时带有响应缓存
+     *
+     * @return {@link okhttp3.OkHttpClient}
+     * @method getResilientClient
+     * @date 2026/10/18 15:40
+     */
+    public static okhttp3.OkHttpClient getResilientClient() {
+        okhttp3.OkHttpClient client = resilientClient;
+        if (Objects.isNull(client)) {
+            synchronized (OkHttpClient.class) {
+                client = resilientClient;
+                if (Objects.isNull(client)) {
+                    client = resilientClient(null, -1L);
+                    resilientClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * 为便捷方法启用（或以 null 关闭）响应缓存：内存层位于重试、对冲之前，磁盘层位于其后（对冲请求同样经过磁盘层）。
+     * 重新设置会重建客户端，熔断状态与对冲耗时统计随之清零
+     *
+     * @param cache 响应缓存，null 表示关闭
+     * @method setResponseCache
+     * @date 2026/10/18 16:50
+     */
+    public static synchronized void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+        resilientClient = resilientClient(cache, compressionThreshold);
+    }
+
+    /**
+     * 为便捷方法开启（或以负数关闭）请求体 gzip 压缩：长度不小于阈值的请求体压缩后以 {@code Content-Encoding: gzip} 发送，
+     * 仅在服务端支持解压请求体时开启。压缩位于重试之前，重试不会重复压缩。重新设置会重建客户端
+     *
+     * @param threshold 压缩阈值（字节），小于 0 表示不压缩
+     * @method setRequestCompressionThreshold
+     * @date 2026/10/18 18:30
+     */
+    public static synchronized void setRequestCompressionThreshold(long threshold) {
+        compressionThreshold = threshold;
+        resilientClient = resilientClient(responseCache, threshold);
+    }
+
+    private static okhttp3.OkHttpClient resilientClient(HttpResponseCache cache, long threshold) {
+        final okhttp3.OkHttpClient base = Objects.isNull(cache) ? okHttpClient : cache.withDiskTier(okHttpClient);
+        final okhttp3.OkHttpClient.Builder builder = ResilientClients.install(base,
+            new RetryInterceptor(), new HedgingInterceptor(), new CircuitBreakerInterceptor()).newBuilder();
+        // 同时到达的相同请求只发出一次，位于对冲之前、内存缓存之后
+        builder.interceptors().add(0, SINGLE_FLIGHT);
+        if (threshold >= 0) {
+            builder.interceptors().add(0, new RequestCompressionInterceptor(threshold));
+        }
+        final okhttp3.OkHttpClient client = builder.build();
+        final okhttp3.OkHttpClient.Builder outer = Objects.isNull(cache)
+            ? client.newBuilder() : cache.withMemoryTier(client).newBuilder();
+        // 调用方自行设置 Accept-Encoding 时 OkHttp 不解压，由该拦截器补上；位于最外层，内存缓存命中的响应同样解压。
+        // 只装在便捷方法的客户端上，默认客户端（HttpTransports 等）原样返回响应
+        outer.interceptors().add(0, new ResponseDecompressionInterceptor());
+        return outer.build();
+    }
+
+    /**
+     * 便捷方法使用的客户端的请求合并统计
+     *
+     * @return {@link SingleFlightInterceptor}
+     * @method getSingleFlight
+     * @date 2026/10/18 17:40
+     */
+    public static SingleFlightInterceptor getSingleFlight() {
+        return SINGLE_FLIGHT;
+    }
+
     private static X509TrustManager x509TrustManager() {
         return new X509TrustManager() {
             @Override
@@ -135,6 +263,20 @@ public class OkHttpClient {
      * @date 2021/4/26 16:58
      */
     public static Response doGet(okhttp3.OkHttpClient okHttpClient, String url, Map<String, String> params, Map<String, String> headers) {
+        try {
+            return okHttpClient.newCall(getRequest(url, params, headers)).execute();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    //默认OkHttp3客户端
+    public static Response doGet(String url, Map<String, String> params, Map<String, String> headers) {
+        return doGet(getResilientClient(), url, params, headers);
+    }
+
+    private static Request getRequest(String url, Map<String, String> params, Map<String, String> headers) {
         StringBuilder sb = new StringBuilder(url);
         if (params != null && params.keySet().size() > 0) {
             boolean firstFlag = true;
@@ -147,21 +289,11 @@ public class OkHttpClient {
                 }
             }
         }
-        final Request.Builder builder = new Request.Builder()
+        return new Request.Builder()
             .url(sb.toString())
             .headers(Objects.isNull(headers) ? new Headers.Builder().build() : Headers.of(headers))
-            .get();
-        try {
-            return okHttpClient.newCall(builder.build()).execute();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
-
-    //默认OkHttp3客户端
-    public static Response doGet(String url, Map<String, String> params, Map<String, String> headers) {
-        return doGet(okHttpClient, url, params, headers);
+            .get()
+            .build();
     }
 
     /**
@@ -176,19 +308,8 @@ public class OkHttpClient {
      * @date 2021/4/26 17:04
      */
     public static Response doFromPost(okhttp3.OkHttpClient okHttpClient, String url, Map<String, String> params, Map<String, String> headers) {
-        FormBody.Builder formBuilder = new FormBody.Builder(StandardCharsets.UTF_8);
-        //添加参数
-        if (params != null && params.keySet().size() > 0) {
-            for (String key : params.keySet()) {
-                formBuilder.add(key, params.get(key));
-            }
-        }
-        final Request.Builder builder = new Request.Builder()
-            .url(url)
-            .headers(Objects.isNull(headers) ? new Headers.Builder().build() : Headers.of(headers))
-            .post(formBuilder.build());
         try {
-            return okHttpClient.newCall(builder.build()).execute();
+            return okHttpClient.newCall(formPostRequest(url, params, headers)).execute();
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -197,7 +318,22 @@ public class OkHttpClient {
 
     // 默认OkHttp3客户端
     public static Response doFromPost(String url, Map<String, String> params, Map<String, String> headers) {
-        return doFromPost(okHttpClient, url, params, headers);
+        return doFromPost(getResilientClient(), url, params, headers);
+    }
+
+    private static Request formPostRequest(String url, Map<String, String> params, Map<String, String> headers) {
+        FormBody.Builder formBuilder = new FormBody.Builder(StandardCharsets.UTF_8);
+        //添加参数
+        if (params != null && params.keySet().size() > 0) {
+            for (String key : params.keySet()) {
+                formBuilder.add(key, params.get(key));
+            }
+        }
+        return new Request.Builder()
+            .url(url)
+            .headers(Objects.isNull(headers) ? new Headers.Builder().build() : Headers.of(headers))
+            .post(formBuilder.build())
+            .build();
     }
 
     /**
@@ -218,7 +354,7 @@ public class OkHttpClient {
 
     // 默认OkHttp3客户端
     public static Response doJsonPost(String url, String jsonParams, Map<String, String> headers) {
-        return doJsonPost(okHttpClient, url, jsonParams, headers);
+        return doJsonPost(getResilientClient(), url, jsonParams, headers);
     }
 
     /**
@@ -239,7 +375,278 @@ public class OkHttpClient {
 
     // 默认OkHttp3客户端
     public static Response doXmlPost(String url, String xml, Map<String, String> headers) {
-        return doXmlPost(okHttpClient, url, xml, headers);
+        return doXmlPost(getResilientClient(), url, xml, headers);
+    }
+
+    /**
+     * 异步执行请求：基于 {@link Call#enqueue(Callback)}，调用线程不阻塞，请求在调度线程上执行，
+     * 超过调度器并发上限的请求排队等待而不占用调用方线程
+     * <p>
+     * 取消返回的 future 会取消底层请求；请求在取消后才返回的响应会被直接关闭。
+     * 响应由调用方负责关闭。后续回调默认在 OkHttp 调度线程上执行，耗时处理请使用 {@code *Async} 并指定线程池。
+     *
+     * @param okHttpClient OkHttp3 自定义请求客户端
+     * @param request      请求
+     * @param timeout      本次调用的整体超时（从发起到读完响应体），null 使用客户端默认值，{@link Duration#ZERO} 表示不限
+     * @return {@link CompletableFuture} 网络异常、超时时以 {@link IOException} 异常完成，非 2xx 响应正常完成
+     * @method executeAsync
+     * @date 2026/10/18 11:00
+     */
+    public static CompletableFuture<Response> executeAsync(okhttp3.OkHttpClient okHttpClient, Request request, Duration timeout) {
+        final Call call = okHttpClient.newCall(request);
+        if (Objects.nonNull(timeout)) {
+            if (timeout.isZero()) {
+                call.timeout().clearTimeout();
+            } else {
+                call.timeout().timeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                if (!future.complete(response)) {
+                    response.close();
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * OkHttp3 异步GET请求
+     *
+     * @param okHttpClient OkHttp3 自定义请求客户端
+     * @param url          请求的url
+     * @param params       请求的参数，在浏览器？后面的数据，没有可以传null
+     * @param headers      请求头
+     * @param timeout      本次调用的整体超时，null 使用客户端默认值
+     * @return {@link CompletableFuture}
+     * @method doGetAsync
+     * @date 2026/10/18 11:10
+     */
+    public static CompletableFuture<Response> doGetAsync(okhttp3.OkHttpClient okHttpClient, String url, Map<String, String> params, Map<String, String> headers, Duration timeout) {
+        return executeAsync(okHttpClient, getRequest(url, params, headers), timeout);
+    }
+
+    // 默认OkHttp3客户端
+    public static CompletableFuture<Response> doGetAsync(String url, Map<String, String> params, Map<String, String> headers) {
+        return doGetAsync(getResilientClient(), url, params, headers, null);
+    }
+
+    /**
+     * OkHttp3 异步From 表单POST请求
+     *
+     * @param okHttpClient OkHttp3 自定义请求客户端
+     * @param url          请求的url
+     * @param params       表单参数
+     * @param headers      请求头
+     * @param timeout      本次调用的整体超时，null 使用客户端默认值
+     * @return {@link CompletableFuture}
+     * @method doFromPostAsync
+     * @date 2026/10/18 11:12
+     */
+    public static CompletableFuture<Response> doFromPostAsync(okhttp3.OkHttpClient okHttpClient, String url, Map<String, String> params, Map<String, String> headers, Duration timeout) {
+        return executeAsync(okHttpClient, formPostRequest(url, params, headers), timeout);
+    }
+
+    // 默认OkHttp3客户端
+    public static CompletableFuture<Response> doFromPostAsync(String url, Map<String, String> params, Map<String, String> headers) {
+        return doFromPostAsync(getResilientClient(), url, params, headers, null);
+    }
+
+    /**
+     * OkHttp3 异步JSON信息POST请求
+     *
+     * @param okHttpClient OkHttp3 自定义请求客户端
+     * @param url          请求的url
+     * @param jsonParams   JSON 请求体
+     * @param headers      请求头
+     * @param timeout      本次调用的整体超时，null 使用客户端默认值
+     * @return {@link CompletableFuture}
+     * @method doJsonPostAsync
+     * @date 2026/10/18 11:14
+     */
+    public static CompletableFuture<Response> doJsonPostAsync(okhttp3.OkHttpClient okHttpClient, String url, String jsonParams, Map<String, String> headers, Duration timeout) {
+        RequestBody requestBody = RequestBody.create(jsonParams, MediaType.parse("application/json; charset=utf-8"));
+        return executeAsync(okHttpClient, postRequest(url, headers, requestBody), timeout);
+    }
+
+    // 默认OkHttp3客户端
+    public static CompletableFuture<Response> doJsonPostAsync(String url, String jsonParams, Map<String, String> headers) {
+        return doJsonPostAsync(getResilientClient(), url, jsonParams, headers, null);
+    }
+
+    /**
+     * OkHttp3 异步xml信息POST请求
+     *
+     * @param okHttpClient OkHttp3 自定义请求客户端
+     * @param url          请求url
+     * @param xml          xml信息
+     * @param headers      请求头信息，可为空
+     * @param timeout      本次调用的整体超时，null 使用客户端默认值
+     * @return {@link CompletableFuture}
+     * @method doXmlPostAsync
+     * @date 2026/10/18 11:16
+     */
+    public static CompletableFuture<Response> doXmlPostAsync(okhttp3.OkHttpClient okHttpClient, String url, String xml, Map<String, String> headers, Duration timeout) {
+        RequestBody requestBody = RequestBody.create(xml, MediaType.parse("application/xml; charset=utf-8"));
+        return executeAsync(okHttpClient, postRequest(url, headers, requestBody), timeout);
+    }
+
+    // 默认OkHttp3客户端
+    public static CompletableFuture<Response> doXmlPostAsync(String url, String xml, Map<String, String> headers) {
+        return doXmlPostAsync(getResilientClient(), url, xml, headers, null);
+    }
+
+    /**
+     * 以流的形式读取响应体，不把整个响应体读入内存
+     *
+     * @param response OkHttp3响应对象
+     * @return {@link InputStream} 关闭流即关闭响应；响应失败时关闭响应并返回 null
+     * @method bodyStream
+     * @date 2026/10/18 12:00
+     */
+    @Nullable
+    public static InputStream bodyStream(Response response) {
+        final ResponseBody body = successfulBody(response);
+        return Objects.isNull(body) ? null : body.byteStream();
+    }
+
+    /**
+     * 以 okio {@link BufferedSource} 的形式读取响应体，便于按行、按长度或按分隔符增量解析
+     *
+     * @param response OkHttp3响应对象
+     * @return {@link BufferedSource} 关闭即关闭响应；响应失败时关闭响应并返回 null
+     * @method bodySource
+     * @date 2026/10/18 12:02
+     */
+    @Nullable
+    public static BufferedSource bodySource(Response response) {
+        final ResponseBody body = successfulBody(response);
+        return Objects.isNull(body) ? null : body.source();
+    }
+
+    /**
+     * 将响应体分块交给消费方，读完后关闭响应
+     * <p>
+     * 全程复用同一个缓冲区，消费方必须在返回前处理完（或复制走）其中的数据，不能保留引用。
+     *
+     * @param response OkHttp3响应对象
+     * @param sink     消费方，每次收到处于读模式的缓冲区
+     * @return {@link long} 读取的字节数；响应失败时为 -1
+     * @throws IOException 读取失败
+     * @method readBody
+     * @date 2026/10/18 12:05
+     */
+    public static long readBody(Response response, Consumer<ByteBuffer> sink) throws IOException {
+        final ResponseBody body = successfulBody(response);
+        if (Objects.isNull(body)) {
+            return -1L;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(BODY_BUFFER_SIZE);
+        long total = 0L;
+        try (BufferedSource source = body.source()) {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                if (0 == read) {
+                    continue;
+                }
+                buffer.flip();
+                sink.accept(buffer);
+                buffer.clear();
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 直接在响应体字节流上用 Jackson 解析 JSON，不生成中间字符串（编码由 Jackson 按内容自动识别）
+     *
+     * @param response OkHttp3响应对象
+     * @param type     目标类型
+     * @return {@link T} 响应失败时关闭响应并返回 null
+     * @throws IOException 读取或解析失败
+     * @method readJson
+     * @date 2026/10/18 12:10
+     */
+    @Nullable
+    public static <T> T readJson(Response response, Class<T> type) throws IOException {
+        final ResponseBody body = successfulBody(response);
+        if (Objects.isNull(body)) {
+            return null;
+        }
+        try (InputStream in = body.byteStream()) {
+            return MAPPER.readValue(in, type);
+        }
+    }
+
+    // 泛型目标类型
+    @Nullable
+    public static <T> T readJson(Response response, TypeReference<T> type) throws IOException {
+        final ResponseBody body = successfulBody(response);
+        if (Objects.isNull(body)) {
+            return null;
+        }
+        try (InputStream in = body.byteStream()) {
+            return MAPPER.readValue(in, type);
+        }
+    }
+
+    /**
+     * 在响应体上创建 Jackson 流式解析器，适合逐个处理超大数组中的元素
+     * <pre>
+     * try (JsonParser parser = OkHttpClient.jsonParser(response)) {
+     *     parser.nextToken(); // START_ARRAY
+     *     while (parser.nextToken() == JsonToken.START_OBJECT) {
+     *         Item item = parser.readValueAs(Item.class);
+     *     }
+     * }
+     * </pre>
+     *
+     * @param response OkHttp3响应对象
+     * @return {@link JsonParser} 关闭解析器即关闭响应；响应失败时关闭响应并返回 null
+     * @throws IOException 创建解析器失败
+     * @method jsonParser
+     * @date 2026/10/18 12:15
+     */
+    @Nullable
+    public static JsonParser jsonParser(Response response) throws IOException {
+        final ResponseBody body = successfulBody(response);
+        if (Objects.isNull(body)) {
+            return null;
+        }
+        final JsonParser parser = MAPPER.getFactory().createParser(body.byteStream());
+        parser.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
+    /**
+     * 成功的响应体；失败时关闭响应并返回 null
+     */
+    @Nullable
+    private static ResponseBody successfulBody(Response response) {
+        if (Objects.isNull(response)) {
+            return null;
+        }
+        final ResponseBody body = response.body();
+        if (!response.isSuccessful() || Objects.isNull(body)) {
+            LOGGER.info("okHttp3 request 失败 -> {} {}", response.code(), response.request().url());
+            response.close();
+            return null;
+        }
+        return body;
     }
 
     /**
@@ -274,18 +681,22 @@ public class OkHttpClient {
 
     @Nullable
     private static Response getResponse(okhttp3.OkHttpClient okHttpClient, String url, Map<String, String> headers, RequestBody requestBody) {
-        final Request.Builder builder = new Request.Builder()
-            .url(url)
-            .headers(Objects.isNull(headers) ? new Headers.Builder().build() : Headers.of(headers))
-            .post(requestBody);
         try {
-            return okHttpClient.newCall(builder.build()).execute();
+            return okHttpClient.newCall(postRequest(url, headers, requestBody)).execute();
         } catch (IOException e) {
             e.printStackTrace();
         }
         return null;
     }
 
+    private static Request postRequest(String url, Map<String, String> headers, RequestBody requestBody) {
+        return new Request.Builder()
+            .url(url)
+            .headers(Objects.isNull(headers) ? new Headers.Builder().build() : Headers.of(headers))
+            .post(requestBody)
+            .build();
+    }
+
     @Nullable
     private static Response getResponse(okhttp3.OkHttpClient okHttpClient, Map<String, String> headers, Request.Builder builder) {
         if (Objects.nonNull(headers) && headers.size() > 0) {
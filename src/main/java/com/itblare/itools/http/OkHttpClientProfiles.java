@@ -0,0 +1,301 @@
+package com.itblare.itools.http;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http
+ * ClassName:   OkHttpClientProfiles
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 13:10
+ * Description:    命名的 OkHttp 客户端
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 13:10    1.0.0         命名的 OkHttp 客户端
+ */
+
+import com.itblare.itools.http.interceptor.RequestCompressionInterceptor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 命名的 OkHttp 客户端
+ * <p>
+ * 每个 {@link HttpClientProfile} 对应一个由 {@link OkHttpClient#getDefaultClient()} 经 {@code newBuilder()} 派生的客户端：
+ * 拥有自己的连接池、超时与调度器并发上限，调度器共用默认客户端的线程池，SSL 等其余设置与默认客户端一致。
+ * 同名重复注册即在运行时修改配置：调度器原地调整上限（排队中的异步请求立即按新上限调度），
+ * 连接池配置变化时换用新池并清理旧池的空闲连接，进行中的请求不受影响。
+ * 配置还可开启请求体 gzip 压缩与选择协议（如明文 HTTP/2 prior knowledge），见 {@link HttpClientProfile}。
+ * 名称 {@value #DEFAULT} 始终指向默认客户端。
+ * <pre>
+ * okhttp3.OkHttpClient client = OkHttpClientProfiles.get("third-party");
+ * OkHttpClient.doGetAsync(client, url, null, null, null);
+ * OkHttpClientProfiles.stats().forEach((name, stats) -&gt; LOGGER.info("{} {}", name, stats));
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 13:10
+ * @since 1.0.0
+ */
+public final class OkHttpClientProfiles {
+
+    /**
+     * 默认客户端的名称
+     */
+    public static final String DEFAULT = "default";
+
+    private static final Map<String, Entry> PROFILES = new ConcurrentHashMap<>();
+
+    private OkHttpClientProfiles() {
+    }
+
+    /**
+     * 注册或更新命名客户端
+     *
+     * @param profile 客户端配置
+     * @return {@link okhttp3.OkHttpClient} 按新配置构建的客户端
+     * @method register
+     * @date 2026/10/18 13:20
+     */
+    public static okhttp3.OkHttpClient register(HttpClientProfile profile) {
+        if (DEFAULT.equals(profile.getName())) {
+            throw new IllegalArgumentException("the default profile cannot be reconfigured");
+        }
+        if (profile.getMaxRequests() <= 0 || profile.getMaxRequestsPerHost() <= 0 || profile.getMaxIdleConnections() < 0) {
+            throw new IllegalArgumentException("invalid http client profile: " + profile);
+        }
+        final HttpClientProfile copy = copy(profile);
+        return PROFILES.compute(copy.getName(), (name, previous) -> build(copy, previous)).client;
+    }
+
+    /**
+     * 获取命名客户端
+     *
+     * @param name 名称
+     * @return {@link okhttp3.OkHttpClient}
+     * @throws IllegalArgumentException 未注册
+     * @method get
+     * @date 2026/10/18 13:22
+     */
+    public static okhttp3.OkHttpClient get(String name) {
+        if (DEFAULT.equals(name)) {
+            return OkHttpClient.getDefaultClient();
+        }
+        final Entry entry = PROFILES.get(name);
+        if (Objects.isNull(entry)) {
+            throw new IllegalArgumentException("unknown http client profile: " + name);
+        }
+        return entry.client;
+    }
+
+    /**
+     * 获取命名客户端的配置副本
+     *
+     * @param name 名称
+     * @return {@link HttpClientProfile} 未注册时为 null
+     * @method getProfile
+     * @date 2026/10/18 13:24
+     */
+    public static HttpClientProfile getProfile(String name) {
+        final Entry entry = PROFILES.get(name);
+        return Objects.isNull(entry) ? null : copy(entry.profile);
+    }
+
+    /**
+     * 移除命名客户端并清理其空闲连接，已取得该客户端的调用方仍可继续使用
+     *
+     * @param name 名称
+     * @method remove
+     * @date 2026/10/18 13:26
+     */
+    public static void remove(String name) {
+        final Entry entry = PROFILES.remove(name);
+        if (Objects.nonNull(entry)) {
+            entry.client.connectionPool().evictAll();
+        }
+    }
+
+    /**
+     * 命名客户端的实时连接池与调度统计
+     *
+     * @param name 名称
+     * @return {@link PoolStats}
+     * @method stats
+     * @date 2026/10/18 13:28
+     */
+    public static PoolStats stats(String name) {
+        return new PoolStats(get(name));
+    }
+
+    /**
+     * 所有客户端（含默认客户端）的实时统计
+     *
+     * @return {@link Map} 名称 -&gt; 统计
+     * @method stats
+     * @date 2026/10/18 13:30
+     */
+    public static Map<String, PoolStats> stats() {
+        final Map<String, PoolStats> stats = new LinkedHashMap<>();
+        stats.put(DEFAULT, new PoolStats(OkHttpClient.getDefaultClient()));
+        PROFILES.forEach((name, entry) -> stats.put(name, new PoolStats(entry.client)));
+        return stats;
+    }
+
+    private static Entry build(HttpClientProfile profile, Entry previous) {
+        final okhttp3.OkHttpClient base = OkHttpClient.getDefaultClient();
+        final Dispatcher dispatcher;
+        ConnectionPool pool;
+        if (Objects.isNull(previous)) {
+            dispatcher = new Dispatcher(base.dispatcher().executorService());
+            pool = null;
+        } else {
+            dispatcher = previous.client.dispatcher();
+            pool = previous.client.connectionPool();
+            if (previous.profile.getMaxIdleConnections() != profile.getMaxIdleConnections()
+                || previous.profile.getKeepAliveMillis() != profile.getKeepAliveMillis()) {
+                pool.evictAll();
+                pool = null;
+            }
+        }
+        if (Objects.isNull(pool)) {
+            pool = new ConnectionPool(profile.getMaxIdleConnections(), profile.getKeepAliveMillis(), TimeUnit.MILLISECONDS);
+        }
+        dispatcher.setMaxRequests(profile.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(profile.getMaxRequestsPerHost());
+        final okhttp3.OkHttpClient.Builder builder = base.newBuilder()
+            .dispatcher(dispatcher)
+            .connectionPool(pool)
+            .connectTimeout(profile.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(profile.getReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .writeTimeout(profile.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .callTimeout(profile.getCallTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .protocols(protocols(profile.getProtocolMode()));
+        if (profile.getCompressionThreshold() >= 0) {
+            builder.addInterceptor(new RequestCompressionInterceptor(profile.getCompressionThreshold()));
+        }
+        return new Entry(profile, builder.build());
+    }
+
+    private static List<Protocol> protocols(HttpClientProfile.ProtocolMode mode) {
+        switch (mode) {
+            case HTTP_1_1:
+                return Collections.singletonList(Protocol.HTTP_1_1);
+            case H2C_PRIOR_KNOWLEDGE:
+                return Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+            default:
+                return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        }
+    }
+
+    private static HttpClientProfile copy(HttpClientProfile source) {
+        final HttpClientProfile copy = new HttpClientProfile(source.getName());
+        copy.setConnectTimeoutMillis(source.getConnectTimeoutMillis());
+        copy.setReadTimeoutMillis(source.getReadTimeoutMillis());
+        copy.setWriteTimeoutMillis(source.getWriteTimeoutMillis());
+        copy.setCallTimeoutMillis(source.getCallTimeoutMillis());
+        copy.setMaxRequests(source.getMaxRequests());
+        copy.setMaxRequestsPerHost(source.getMaxRequestsPerHost());
+        copy.setMaxIdleConnections(source.getMaxIdleConnections());
+        copy.setKeepAliveMillis(source.getKeepAliveMillis());
+        copy.setCompressionThreshold(source.getCompressionThreshold());
+        copy.setProtocolMode(source.getProtocolMode());
+        return copy;
+    }
+
+    private static class Entry {
+
+        private final HttpClientProfile profile;
+
+        private final okhttp3.OkHttpClient client;
+
+        private Entry(HttpClientProfile profile, okhttp3.OkHttpClient client) {
+            this.profile = profile;
+            this.client = client;
+        }
+    }
+
+    /**
+     * 连接池与调度统计快照
+     */
+    public static class PoolStats {
+
+        /**
+         * 连接池中的连接总数
+         */
+        private final int connections;
+
+        /**
+         * 其中空闲的连接数
+         */
+        private final int idleConnections;
+
+        /**
+         * 正在执行的请求数（同步与异步）
+         */
+        private final int runningCalls;
+
+        /**
+         * 排队等待调度的异步请求数
+         */
+        private final int queuedCalls;
+
+        private final int maxRequests;
+
+        private final int maxRequestsPerHost;
+
+        private PoolStats(okhttp3.OkHttpClient client) {
+            final ConnectionPool pool = client.connectionPool();
+            final Dispatcher dispatcher = client.dispatcher();
+            this.connections = pool.connectionCount();
+            this.idleConnections = pool.idleConnectionCount();
+            this.runningCalls = dispatcher.runningCallsCount();
+            this.queuedCalls = dispatcher.queuedCallsCount();
+            this.maxRequests = dispatcher.getMaxRequests();
+            this.maxRequestsPerHost = dispatcher.getMaxRequestsPerHost();
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        public int getRunningCalls() {
+            return runningCalls;
+        }
+
+        public int getQueuedCalls() {
+            return queuedCalls;
+        }
+
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public int getMaxRequestsPerHost() {
+            return maxRequestsPerHost;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolStats{" +
+                "connections=" + connections +
+                ", idleConnections=" + idleConnections +
+                ", runningCalls=" + runningCalls +
+                ", queuedCalls=" + queuedCalls +
+                ", maxRequests=" + maxRequests +
+                ", maxRequestsPerHost=" + maxRequestsPerHost +
+                '}';
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.itblare.itools.http.cache;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.cache
+ * ClassName:   HttpResponseCache
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 16:30
+ * Description:    两级 HTTP 响应缓存
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 16:30    1.0.0         两级 HTTP 响应缓存
+ */
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 两级 HTTP 响应缓存
+ * <p>
+ * 内存层（{@link MemoryCacheInterceptor}，按字节限制的 LRU）位于拦截器最外层，新鲜的命中不经过重试、对冲与网络；
+ * 磁盘层为 OkHttp 自带的 {@link Cache}，遵循 Cache-Control 并以 ETag / Last-Modified 条件请求重新验证。
+ * 两层都未命中时才发出网络请求。
+ * <pre>
+ * HttpResponseCache cache = new HttpResponseCache(32L * 1024 * 1024, new File("/var/cache/http"), 256L * 1024 * 1024);
+ * OkHttpClient.setResponseCache(cache);                      // 作用于 OkHttpClient 的便捷方法
+ * okhttp3.OkHttpClient client = cache.install(otherClient);  // 或安装到任意客户端
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 16:30
+ * @since 1.0.0
+ */
+public class HttpResponseCache implements Closeable {
+
+    private final MemoryCacheInterceptor memory;
+
+    private final Cache disk;
+
+    /**
+     * 只有内存层的缓存
+     *
+     * @param maxMemoryBytes 内存层容量（字节），单个响应不超过容量的 1/8
+     */
+    public HttpResponseCache(long maxMemoryBytes) {
+        this(maxMemoryBytes, null, 0L);
+    }
+
+    /**
+     * 内存与磁盘两级缓存
+     *
+     * @param maxMemoryBytes 内存层容量（字节），单个响应不超过容量的 1/8
+     * @param directory      磁盘层目录，为空时不启用磁盘层
+     * @param maxDiskBytes   磁盘层容量（字节）
+     */
+    public HttpResponseCache(long maxMemoryBytes, File directory, long maxDiskBytes) {
+        if (maxMemoryBytes <= 0) {
+            throw new IllegalArgumentException("maxMemoryBytes must be positive");
+        }
+        this.memory = new MemoryCacheInterceptor(maxMemoryBytes, Math.max(1L, maxMemoryBytes / 8));
+        this.disk = Objects.isNull(directory) ? null : new Cache(directory, maxDiskBytes);
+    }
+
+    /**
+     * 在客户端上安装两级缓存
+     *
+     * @param client 客户端
+     * @return {@link OkHttpClient}
+     * @method install
+     * @date 2026/10/18 16:40
+     */
+    public OkHttpClient install(OkHttpClient client) {
+        return withMemoryTier(withDiskTier(client));
+    }
+
+    /**
+     * 只安装磁盘层；需要让内部派生的客户端（如对冲使用的委托客户端）也经过磁盘层时，先对基础客户端调用本方法
+     *
+     * @param client 客户端
+     * @return {@link OkHttpClient}
+     * @method withDiskTier
+     * @date 2026/10/18 16:42
+     */
+    public OkHttpClient withDiskTier(OkHttpClient client) {
+        return Objects.isNull(disk) ? client : client.newBuilder().cache(disk).build();
+    }
+
+    /**
+     * 只安装内存层，置于所有应用拦截器之前
+     *
+     * @param client 客户端
+     * @return {@link OkHttpClient}
+     * @method withMemoryTier
+     * @date 2026/10/18 16:44
+     */
+    public OkHttpClient withMemoryTier(OkHttpClient client) {
+        final OkHttpClient.Builder builder = client.newBuilder();
+        builder.interceptors().add(0, memory);
+        return builder.build();
+    }
+
+    /**
+     * 命中统计快照
+     *
+     * @return {@link Stats}
+     * @method getStats
+     * @date 2026/10/18 16:46
+     */
+    public Stats getStats() {
+        return new Stats(this);
+    }
+
+    /**
+     * 清空两级缓存
+     *
+     * @throws IOException 删除磁盘缓存失败
+     * @method evictAll
+     * @date 2026/10/18 16:48
+     */
+    public void evictAll() throws IOException {
+        memory.clear();
+        if (Objects.nonNull(disk)) {
+            disk.evictAll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        memory.clear();
+        if (Objects.nonNull(disk)) {
+            disk.close();
+        }
+    }
+
+    /**
+     * 命中统计
+     */
+    public static class Stats {
+
+        /**
+         * 内存层直接命中（零网络往返）
+         */
+        private final long memoryHits;
+
+        /**
+         * 内存层条件请求得到 304（一次往返，无响应体）
+         */
+        private final long memoryRevalidated;
+
+        /**
+         * 内存层未直接命中
+         */
+        private final long memoryMisses;
+
+        private final int memoryEntries;
+
+        private final long memoryBytes;
+
+        /**
+         * 磁盘层命中（含条件请求 304）
+         */
+        private final long diskHits;
+
+        /**
+         * 磁盘层之后实际发出的网络请求
+         */
+        private final long networkRequests;
+
+        private final long diskBytes;
+
+        private Stats(HttpResponseCache cache) {
+            final MemoryCacheInterceptor memory = cache.memory;
+            this.memoryHits = memory.hits.sum();
+            this.memoryRevalidated = memory.revalidated.sum();
+            this.memoryMisses = memory.misses.sum();
+            this.memoryEntries = memory.count();
+            this.memoryBytes = memory.size();
+            final Cache disk = cache.disk;
+            this.diskHits = Objects.isNull(disk) ? 0L : disk.hitCount();
+            this.networkRequests = Objects.isNull(disk) ? memoryMisses : disk.networkCount();
+            long bytes = 0L;
+            if (Objects.nonNull(disk)) {
+                try {
+                    bytes = disk.size();
+                } catch (IOException ignored) {
+                    // 统计失败不影响其他指标
+                }
+            }
+            this.diskBytes = bytes;
+        }
+
+        public long getMemoryHits() {
+            return memoryHits;
+        }
+
+        public long getMemoryRevalidated() {
+            return memoryRevalidated;
+        }
+
+        public long getMemoryMisses() {
+            return memoryMisses;
+        }
+
+        public int getMemoryEntries() {
+            return memoryEntries;
+        }
+
+        public long getMemoryBytes() {
+            return memoryBytes;
+        }
+
+        public long getDiskHits() {
+            return diskHits;
+        }
+
+        public long getNetworkRequests() {
+            return networkRequests;
+        }
+
+        public long getDiskBytes() {
+            return diskBytes;
+        }
+
+        /**
+         * 命中率：内存直接命中与磁盘命中占全部请求的比例
+         *
+         * @return {@link double}
+         */
+        public double getHitRatio() {
+            final long total = memoryHits + memoryMisses;
+            return 0L == total ? 0.0 : (double) (memoryHits + diskHits) / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                "memoryHits=" + memoryHits +
+                ", memoryRevalidated=" + memoryRevalidated +
+                ", memoryMisses=" + memoryMisses +
+                ", memoryEntries=" + memoryEntries +
+                ", memoryBytes=" + memoryBytes +
+                ", diskHits=" + diskHits +
+                ", networkRequests=" + networkRequests +
+                ", diskBytes=" + diskBytes +
+                '}';
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.itblare.itools.http.cache;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.cache
+ * ClassName:   MemoryCacheInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 16:00
+ * Description:    内存响应缓存拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 16:00    1.0.0         内存响应缓存拦截器
+ */
+
+import okhttp3.CacheControl;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内存响应缓存拦截器
+ * <p>
+ * 按字节数限制容量的 LRU，只缓存 GET 的 200 响应。新鲜的条目直接返回，不经过网络与后续拦截器；
+ * 过期但带 ETag / Last-Modified 的条目以条件请求重新验证，304 时沿用内存中的响应体。
+ * 新鲜度按 Cache-Control max-age、Expires 与 Age 计算，只有 Last-Modified 时按其距今时长的 10% 估算（URL 带查询参数时不估算）。
+ * 请求或响应带 no-store、请求带 Authorization、响应带 Vary（Accept-Encoding 除外）时不缓存；
+ * 条目按地址与请求的 Accept-Encoding 区分，调用方自行协商编码得到的原始响应体不会返回给未协商的请求。
+ * 同一地址的非 GET / HEAD 请求使该地址的全部条目失效。
+ *
+ * @author Blare
+ * @create 2026/10/18 16:00
+ * @since 1.0.0
+ */
+class MemoryCacheInterceptor implements Interceptor {
+
+    private final long maxBytes;
+
+    private final long maxEntryBytes;
+
+    /**
+     * 访问顺序的 LRU，由 this 保护
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size;
+
+    final LongAdder hits = new LongAdder();
+
+    final LongAdder revalidated = new LongAdder();
+
+    final LongAdder misses = new LongAdder();
+
+    MemoryCacheInterceptor(long maxBytes, long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        final String url = request.url().toString();
+        if (!"GET".equals(request.method())) {
+            if (!"HEAD".equals(request.method())) {
+                removeAll(url);
+            }
+            return chain.proceed(request);
+        }
+        // 响应可能随 Accept-Encoding 变化（Vary），编码协商不同的请求不共用条目
+        final String key = url + '\n' + Objects.toString(request.header("Accept-Encoding"), "");
+        final CacheControl requestControl = request.cacheControl();
+        if (requestControl.noStore() || Objects.nonNull(request.header("Authorization"))) {
+            return chain.proceed(request);
+        }
+        final Entry entry = get(key);
+        final long now = System.currentTimeMillis();
+        if (Objects.nonNull(entry) && !requestControl.noCache() && entry.isFresh(now)) {
+            hits.increment();
+            return entry.toResponse(request);
+        }
+        misses.increment();
+        final boolean conditional = Objects.nonNull(entry) && entry.hasValidator()
+            && Objects.isNull(request.header("If-None-Match")) && Objects.isNull(request.header("If-Modified-Since"));
+        final Request networkRequest = conditional ? entry.conditional(request) : request;
+        final long sentAt = System.currentTimeMillis();
+        final Response response = chain.proceed(networkRequest);
+        if (conditional && 304 == response.code()) {
+            final Entry updated = entry.revalidated(response.headers(), sentAt, System.currentTimeMillis());
+            response.close();
+            revalidated.increment();
+            put(key, updated);
+            return updated.toResponse(request);
+        }
+        return store(key, request, response, sentAt);
+    }
+
+    private Response store(String key, Request request, Response response, long sentAt) throws IOException {
+        final ResponseBody body = response.body();
+        if (200 != response.code() || Objects.isNull(body) || !isCacheable(response)) {
+            return response;
+        }
+        if (body.contentLength() > maxEntryBytes) {
+            return response;
+        }
+        final ResponseBody peeked = response.peekBody(maxEntryBytes + 1);
+        if (peeked.contentLength() > maxEntryBytes) {
+            return response;
+        }
+        final byte[] bytes = peeked.bytes();
+        response.close();
+        final Entry entry = new Entry(response.protocol(), response.code(), response.message(), response.headers(),
+            bytes, body.contentType(), sentAt, System.currentTimeMillis(), !Objects.isNull(request.url().query()));
+        put(key, entry);
+        return entry.toResponse(request);
+    }
+
+    private static boolean isCacheable(Response response) {
+        if (response.cacheControl().noStore()) {
+            return false;
+        }
+        for (String vary : response.headers("Vary")) {
+            for (String field : vary.split(",")) {
+                if (!"Accept-Encoding".equalsIgnoreCase(field.trim())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    synchronized int count() {
+        return entries.size();
+    }
+
+    synchronized long size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        size = 0L;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 移除地址的全部条目（各 Accept-Encoding）
+     */
+    private synchronized void removeAll(String url) {
+        final String prefix = url + '\n';
+        final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Entry> next = iterator.next();
+            if (next.getKey().startsWith(prefix)) {
+                size -= next.getValue().body.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        final Entry previous = entries.put(key, entry);
+        size += entry.body.length - (Objects.isNull(previous) ? 0 : previous.body.length);
+        final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxBytes && iterator.hasNext()) {
+            size -= iterator.next().getValue().body.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static class Entry {
+
+        private final Protocol protocol;
+
+        private final int code;
+
+        private final String message;
+
+        private final Headers headers;
+
+        private final byte[] body;
+
+        private final MediaType contentType;
+
+        private final long sentAt;
+
+        private final long receivedAt;
+
+        private final boolean hasQuery;
+
+        /**
+         * 收到时的年龄（毫秒）
+         */
+        private final long initialAge;
+
+        /**
+         * 新鲜期（毫秒）
+         */
+        private final long lifetime;
+
+        private Entry(Protocol protocol, int code, String message, Headers headers, byte[] body, MediaType contentType,
+                      long sentAt, long receivedAt, boolean hasQuery) {
+            this.protocol = protocol;
+            this.code = code;
+            this.message = message;
+            this.headers = headers;
+            this.body = body;
+            this.contentType = contentType;
+            this.sentAt = sentAt;
+            this.receivedAt = receivedAt;
+            this.hasQuery = hasQuery;
+            final Date date = headers.getDate("Date");
+            long age = Objects.isNull(date) ? 0L : Math.max(0L, receivedAt - date.getTime());
+            final String ageHeader = headers.get("Age");
+            if (Objects.nonNull(ageHeader)) {
+                try {
+                    age = Math.max(age, TimeUnit.SECONDS.toMillis(Long.parseLong(ageHeader.trim())));
+                } catch (NumberFormatException ignored) {
+                    // 非法的 Age 按 0 处理
+                }
+            }
+            this.initialAge = age;
+            this.lifetime = lifetime(headers, Objects.isNull(date) ? receivedAt : date.getTime(), hasQuery);
+        }
+
+        private static long lifetime(Headers headers, long date, boolean hasQuery) {
+            final CacheControl control = CacheControl.parse(headers);
+            if (control.noCache()) {
+                return 0L;
+            }
+            if (control.maxAgeSeconds() >= 0) {
+                return TimeUnit.SECONDS.toMillis(control.maxAgeSeconds());
+            }
+            final Date expires = headers.getDate("Expires");
+            if (Objects.nonNull(expires)) {
+                return Math.max(0L, expires.getTime() - date);
+            }
+            final Date lastModified = headers.getDate("Last-Modified");
+            if (Objects.nonNull(lastModified) && !hasQuery) {
+                return Math.max(0L, (date - lastModified.getTime()) / 10);
+            }
+            return 0L;
+        }
+
+        boolean isFresh(long now) {
+            return initialAge + (now - receivedAt) < lifetime;
+        }
+
+        boolean hasValidator() {
+            return Objects.nonNull(headers.get("ETag")) || Objects.nonNull(headers.get("Last-Modified"));
+        }
+
+        Request conditional(Request request) {
+            final Request.Builder builder = request.newBuilder();
+            final String etag = headers.get("ETag");
+            if (Objects.nonNull(etag)) {
+                builder.header("If-None-Match", etag);
+            }
+            final String lastModified = headers.get("Last-Modified");
+            if (Objects.nonNull(lastModified)) {
+                builder.header("If-Modified-Since", lastModified);
+            }
+            return builder.build();
+        }
+
+        /**
+         * 304 响应头覆盖同名缓存头（内容相关的头除外）
+         */
+        Entry revalidated(Headers notModified, long sentAt, long receivedAt) {
+            final Headers.Builder builder = new Headers.Builder();
+            for (int i = 0; i < headers.size(); i++) {
+                final String name = headers.name(i);
+                if (Objects.isNull(notModified.get(name)) || isContentHeader(name)) {
+                    builder.add(name, headers.value(i));
+                }
+            }
+            for (int i = 0; i < notModified.size(); i++) {
+                if (!isContentHeader(notModified.name(i))) {
+                    builder.add(notModified.name(i), notModified.value(i));
+                }
+            }
+            return new Entry(protocol, code, message, builder.build(), body, contentType, sentAt, receivedAt, hasQuery);
+        }
+
+        private static boolean isContentHeader(String name) {
+            return "Content-Length".equalsIgnoreCase(name) || "Content-Encoding".equalsIgnoreCase(name)
+                || "Content-Type".equalsIgnoreCase(name);
+        }
+
+        Response toResponse(Request request) {
+            return new Response.Builder()
+                .request(request)
+                .protocol(protocol)
+                .code(code)
+                .message(message)
+                .headers(headers)
+                .body(ResponseBody.create(body, contentType))
+                .sentRequestAtMillis(sentAt)
+                .receivedResponseAtMillis(receivedAt)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   CircuitBreakerInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 14:30
+ * Description:    按主机熔断拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 14:30    1.0.0         按主机熔断拦截器
+ */
+
+import com.itblare.itools.exception.CircuitOpenException;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按主机熔断拦截器
+ * <p>
+ * 每个主机（host:port）一个熔断器：连续失败（网络异常或 5xx）达到阈值后进入打开状态，期间请求直接以
+ * {@link CircuitOpenException} 失败而不占用连接与超时；打开一段时间后进入半开状态，只放行一个探测请求，
+ * 成功则关闭，失败则重新打开。被取消的调用（如对冲中落败的请求）不计入成败。
+ *
+ * @author Blare
+ * @create 2026/10/18 14:30
+ * @since 1.0.0
+ */
+public class CircuitBreakerInterceptor implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreakerInterceptor.class);
+
+    /**
+     * 熔断状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 打开熔断的连续失败次数
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * 打开状态持续时间（毫秒），之后允许探测
+     */
+    private long openMillis = 10_000L;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenMillis() {
+        return openMillis;
+    }
+
+    public void setOpenMillis(long openMillis) {
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 主机的熔断状态
+     *
+     * @param host host:port
+     * @return {@link State} 从未请求过的主机为 CLOSED
+     * @method getState
+     * @date 2026/10/18 14:40
+     */
+    public State getState(String host) {
+        final Circuit circuit = circuits.get(host);
+        return Objects.isNull(circuit) ? State.CLOSED : circuit.state(System.currentTimeMillis());
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final HttpUrl url = chain.request().url();
+        final String host = url.host() + ":" + url.port();
+        final Circuit circuit = circuits.computeIfAbsent(host, k -> new Circuit());
+        final long now = System.currentTimeMillis();
+        final long wait = circuit.tryAcquire(now);
+        if (wait > 0) {
+            throw new CircuitOpenException(host, wait);
+        }
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException e) {
+            if (chain.call().isCanceled()) {
+                circuit.release();
+            } else {
+                circuit.onFailure(host, System.currentTimeMillis());
+            }
+            throw e;
+        }
+        if (response.code() >= 500) {
+            circuit.onFailure(host, System.currentTimeMillis());
+        } else {
+            circuit.onSuccess(host);
+        }
+        return response;
+    }
+
+    /**
+     * 单个主机的熔断器
+     */
+    private class Circuit {
+
+        private State state = State.CLOSED;
+
+        private int failures;
+
+        private long openedAt;
+
+        /**
+         * 半开状态下是否已有探测请求在途
+         */
+        private boolean probing;
+
+        synchronized State state(long now) {
+            if (State.OPEN == state && now - openedAt >= openMillis) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        }
+
+        /**
+         * 允许通过时返回 0，否则返回需等待的毫秒数
+         */
+        synchronized long tryAcquire(long now) {
+            if (State.OPEN == state) {
+                final long remaining = openedAt + openMillis - now;
+                if (remaining > 0) {
+                    return remaining;
+                }
+                state = State.HALF_OPEN;
+                probing = false;
+            }
+            if (State.HALF_OPEN == state) {
+                if (probing) {
+                    return Math.max(1L, openMillis);
+                }
+                probing = true;
+            }
+            return 0L;
+        }
+
+        synchronized void onSuccess(String host) {
+            if (State.CLOSED != state) {
+                LOGGER.info("熔断恢复：{}", host);
+            }
+            state = State.CLOSED;
+            failures = 0;
+            probing = false;
+        }
+
+        synchronized void onFailure(String host, long now) {
+            if (State.OPEN == state) {
+                // 打开前已发出的请求，不延长打开时间
+                return;
+            }
+            if (State.HALF_OPEN == state || ++failures >= failureThreshold) {
+                LOGGER.warn("熔断打开：{}，{}ms 后探测", host, openMillis);
+                state = State.OPEN;
+                openedAt = now;
+                failures = 0;
+                probing = false;
+            }
+        }
+
+        synchronized void release() {
+            if (State.HALF_OPEN == state) {
+                probing = false;
+            }
+        }
+    }
+}
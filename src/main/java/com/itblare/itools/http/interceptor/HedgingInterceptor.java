@@ -0,0 +1,346 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   HedgingInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 14:50
+ * Description:    请求对冲拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 14:50    1.0.0         请求对冲拦截器
+ */
+
+import com.itblare.itools.task.metrics.LatencyHistogram;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求对冲拦截器
+ * <p>
+ * 按主机统计成功响应的耗时（到收到响应头为止），样本足够后，GET / HEAD 请求在发出后超过该主机的 p95 耗时仍未返回时，
+ * 再发出一个相同的请求，取先返回的响应并取消另一个，以约 5% 的额外请求换取尾延迟的下降。
+ * <p>
+ * 两个请求都通过委托客户端（不含本拦截器，但含重试与熔断）执行：主请求在调用线程上同步执行，与未对冲时一样不经过调度器排队；
+ * 只有对冲请求异步提交到委托客户端独立的调度器，避免外层请求占满并发名额后对冲请求无法调度。
+ * 主请求与对冲请求都在途时只有 2xx / 3xx 响应胜出，失败状态码的响应先保留，另一个请求也失败时才返回。
+ * 委托客户端由 {@link ResilientClients#install} 设置，未设置时本拦截器只记录耗时、不对冲。
+ * 两个请求不使用委托客户端的整体超时（callTimeout），整体时长只受外层调用约束：外层调用被取消（含整体超时）时两个请求一并取消。
+ *
+ * @author Blare
+ * @create 2026/10/18 14:50
+ * @since 1.0.0
+ */
+public class HedgingInterceptor implements Interceptor {
+
+    /**
+     * 检查外层调用是否已取消的间隔（毫秒）
+     */
+    private static final long POLL_MILLIS = 50L;
+
+    /**
+     * 对冲延迟的缓存时间（纳秒），避免每次请求都扫描直方图
+     */
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "okhttp-hedging-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 对冲延迟取值的分位
+     */
+    private double quantile = 0.95;
+
+    /**
+     * 最小对冲延迟（毫秒）
+     */
+    private long minDelayMillis = 10L;
+
+    /**
+     * 开始对冲前每个主机至少需要的样本数
+     */
+    private long minSamples = 20L;
+
+    private final Map<String, HostLatency> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * 执行实际请求的委托客户端
+     */
+    private volatile okhttp3.OkHttpClient delegate;
+
+    public double getQuantile() {
+        return quantile;
+    }
+
+    public void setQuantile(double quantile) {
+        this.quantile = quantile;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    public void setMinDelayMillis(long minDelayMillis) {
+        this.minDelayMillis = minDelayMillis;
+    }
+
+    public long getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(long minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    void setDelegate(okhttp3.OkHttpClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 主机的耗时直方图（纳秒）
+     *
+     * @param host host:port
+     * @return {@link LatencyHistogram} 尚无记录时为 null
+     * @method getLatency
+     * @date 2026/10/18 15:00
+     */
+    public LatencyHistogram getLatency(String host) {
+        final HostLatency latency = latencies.get(host);
+        return Objects.isNull(latency) ? null : latency.histogram;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        final HttpUrl url = request.url();
+        final HostLatency latency = latencies.computeIfAbsent(url.host() + ":" + url.port(), k -> new HostLatency());
+        final okhttp3.OkHttpClient client = delegate;
+        final boolean hedgeable = ("GET".equals(request.method()) || "HEAD".equals(request.method()))
+            && Objects.isNull(request.body());
+        if (Objects.isNull(client) || !hedgeable || latency.histogram.getCount() < minSamples) {
+            final long start = System.nanoTime();
+            final Response response = chain.proceed(request);
+            if (response.isSuccessful()) {
+                latency.histogram.record(System.nanoTime() - start);
+            }
+            return response;
+        }
+        return race(chain, client, request, latency);
+    }
+
+    private Response race(Chain chain, okhttp3.OkHttpClient client, Request request, HostLatency latency) throws IOException {
+        final Race race = new Race(latency);
+        final Call primary = newCall(client, request);
+        race.register(primary);
+        race.schedule(client, request, latency.delayNanos());
+        // 主请求阻塞调用线程，由定时器代为检查外层调用是否已取消
+        final ScheduledFuture<?> watcher = TIMER.scheduleWithFixedDelay(() -> {
+            if (chain.call().isCanceled()) {
+                race.cancel();
+            }
+        }, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            try {
+                race.onResponse(primary, primary.execute());
+            } catch (IOException e) {
+                race.onFailure(primary, e);
+            }
+            return race.result.get();
+        } catch (InterruptedException e) {
+            race.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待对冲请求时被中断");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            watcher.cancel(false);
+        }
+    }
+
+    /**
+     * 在委托客户端上新建请求；整体超时交给外层调用，由定时器在外层调用取消时一并取消
+     */
+    private static Call newCall(okhttp3.OkHttpClient client, Request request) {
+        final Call call = client.newCall(request);
+        call.timeout().clearTimeout();
+        return call;
+    }
+
+    /**
+     * 主机耗时统计
+     */
+    private class HostLatency {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private volatile long delayNanos;
+
+        private volatile long refreshedAt;
+
+        long delayNanos() {
+            final long now = System.nanoTime();
+            if (0L == refreshedAt || now - refreshedAt > DELAY_REFRESH_NANOS) {
+                delayNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(minDelayMillis), histogram.percentile(quantile));
+                refreshedAt = now;
+            }
+            return delayNanos;
+        }
+    }
+
+    /**
+     * 一次对冲：主请求与延迟发出的对冲请求，先成功（2xx / 3xx）者胜出
+     */
+    private static class Race implements Callback {
+
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+
+        private final HostLatency latency;
+
+        private final List<Call> calls = new ArrayList<>(2);
+
+        private final List<Long> starts = new ArrayList<>(2);
+
+        private int running;
+
+        /**
+         * 另一个请求仍在途时先返回的失败状态码响应
+         */
+        private Response fallback;
+
+        private ScheduledFuture<?> timer;
+
+        private Race(HostLatency latency) {
+            this.latency = latency;
+        }
+
+        /**
+         * 登记由调用方自行执行的请求
+         */
+        synchronized boolean register(Call call) {
+            if (result.isDone()) {
+                return false;
+            }
+            calls.add(call);
+            starts.add(System.nanoTime());
+            running++;
+            return true;
+        }
+
+        void launch(Call call) {
+            if (register(call)) {
+                call.enqueue(this);
+            }
+        }
+
+        synchronized void schedule(okhttp3.OkHttpClient client, Request request, long delayNanos) {
+            if (!result.isDone()) {
+                timer = TIMER.schedule(() -> launch(newCall(client, request)), delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) {
+            final long elapsed;
+            final Response previous;
+            synchronized (this) {
+                running--;
+                elapsed = System.nanoTime() - starts.get(calls.indexOf(call));
+                if (response.code() >= 400 && running > 0 && !result.isDone()) {
+                    // 另一个请求仍可能成功，失败响应先保留
+                    if (Objects.isNull(fallback)) {
+                        fallback = response;
+                    } else {
+                        response.close();
+                    }
+                    return;
+                }
+                previous = fallback;
+                fallback = null;
+            }
+            if (Objects.nonNull(previous)) {
+                previous.close();
+            }
+            if (!result.complete(response)) {
+                response.close();
+                return;
+            }
+            if (response.isSuccessful()) {
+                latency.histogram.record(elapsed);
+            }
+            cancelOthers(call);
+        }
+
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            final Response previous;
+            synchronized (this) {
+                running--;
+                // 仍有请求在途时等待其结果；对冲请求尚未发出时不再发出
+                if (running > 0) {
+                    return;
+                }
+                previous = fallback;
+                fallback = null;
+            }
+            final boolean completed = Objects.isNull(previous) ? result.completeExceptionally(e) : result.complete(previous);
+            if (completed) {
+                cancelOthers(call);
+            } else if (Objects.nonNull(previous)) {
+                previous.close();
+            }
+        }
+
+        void cancel() {
+            // 之后才返回的响应会因 complete 失败而被关闭
+            result.completeExceptionally(new IOException("Canceled"));
+            final Response previous;
+            synchronized (this) {
+                previous = fallback;
+                fallback = null;
+            }
+            if (Objects.nonNull(previous)) {
+                previous.close();
+            }
+            cancelOthers(null);
+        }
+
+        private synchronized void cancelOthers(Call winner) {
+            if (Objects.nonNull(timer)) {
+                timer.cancel(false);
+            }
+            for (Call call : calls) {
+                if (call != winner) {
+                    call.cancel();
+                }
+            }
+        }
+    }
+}
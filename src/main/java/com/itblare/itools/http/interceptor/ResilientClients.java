@@ -0,0 +1,73 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   ResilientClients
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 15:20
+ * Description:    组装对冲、重试与熔断拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 15:20    1.0.0         组装对冲、重试与熔断拦截器
+ */
+
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.Objects;
+
+/**
+ * 组装对冲、重试与熔断拦截器
+ * <p>
+ * 拦截器由外到内依次为：对冲 → 重试 → 熔断。每次实际发出的请求（含重试与对冲）都经过熔断器，
+ * 熔断打开时重试不再等待，直接失败。派生的客户端与传入客户端共享连接池与调度线程。
+ * <pre>
+ * okhttp3.OkHttpClient client = ResilientClients.install(OkHttpClientProfiles.get("third-party"),
+ *     new RetryInterceptor(), new HedgingInterceptor(), new CircuitBreakerInterceptor());
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 15:20
+ * @since 1.0.0
+ */
+public final class ResilientClients {
+
+    private ResilientClients() {
+    }
+
+    /**
+     * 在客户端上安装拦截器
+     *
+     * @param base    基础客户端
+     * @param retry   重试拦截器，可为空
+     * @param hedging 对冲拦截器，可为空；一个实例只能安装到一个客户端
+     * @param breaker 熔断拦截器，可为空
+     * @return {@link OkHttpClient}
+     * @method install
+     * @date 2026/10/18 15:25
+     */
+    public static OkHttpClient install(OkHttpClient base, RetryInterceptor retry, HedgingInterceptor hedging,
+                                       CircuitBreakerInterceptor breaker) {
+        final OkHttpClient.Builder builder = base.newBuilder();
+        if (Objects.nonNull(retry)) {
+            builder.addInterceptor(retry);
+        }
+        if (Objects.nonNull(breaker)) {
+            builder.addInterceptor(breaker);
+        }
+        final OkHttpClient inner = builder.build();
+        if (Objects.isNull(hedging)) {
+            return inner;
+        }
+        // 主请求在调用线程上同步执行，只有对冲请求经过该调度器；使用独立的调度器（共用线程池），
+        // 外层请求占满并发名额时对冲请求仍可调度，且不设单独的单主机上限，对冲请求不在慢主机上排队
+        final Dispatcher dispatcher = new Dispatcher(base.dispatcher().executorService());
+        dispatcher.setMaxRequests(base.dispatcher().getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(base.dispatcher().getMaxRequests());
+        hedging.setDelegate(inner.newBuilder().dispatcher(dispatcher).build());
+        final OkHttpClient.Builder outer = inner.newBuilder();
+        outer.interceptors().add(0, hedging);
+        return outer.build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   ResponseDecompressionInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 18:10
+ * Description:    响应体解压拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 18:10    1.0.0         响应体解压拦截器
+ */
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.InflaterSource;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.Inflater;
+
+/**
+ * 响应体解压拦截器
+ * <p>
+ * OkHttp 只在自己添加 {@code Accept-Encoding: gzip} 时才透明解压；调用方自行设置了 Accept-Encoding（如带上 deflate）时，
+ * 响应会原样交给调用方。本拦截器补上这一情况：{@code Content-Encoding} 为 gzip 或 deflate 的响应边读边解压，
+ * 并移除 Content-Encoding 与 Content-Length 头。其他编码（br、zstd 等）不处理。
+ * <p>
+ * 只处理调用方自己带了 Accept-Encoding 的请求；带 Range 的请求与 206 响应的字节区间针对的是编码后的内容，
+ * 单独解压其中一段既得不到正确数据也无法拼接，原样返回。
+ *
+ * @author Blare
+ * @create 2026/10/18 18:10
+ * @since 1.0.0
+ */
+public class ResponseDecompressionInterceptor implements Interceptor {
+
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Response response = chain.proceed(request);
+        final ResponseBody body = response.body();
+        final String encoding = response.header("Content-Encoding");
+        if (Objects.isNull(body) || Objects.isNull(encoding) || "HEAD".equals(request.method())
+            || Objects.isNull(request.header("Accept-Encoding")) || Objects.nonNull(request.header("Range"))
+            || HTTP_PARTIAL_CONTENT == response.code()) {
+            return response;
+        }
+        final Source decoded;
+        if ("gzip".equalsIgnoreCase(encoding.trim())) {
+            decoded = new GzipSource(body.source());
+        } else if ("deflate".equalsIgnoreCase(encoding.trim())) {
+            // HTTP 的 deflate 为带 zlib 头的格式
+            decoded = new InflaterSource(body.source(), new Inflater());
+        } else {
+            return response;
+        }
+        return response.newBuilder()
+            .removeHeader("Content-Encoding")
+            .removeHeader("Content-Length")
+            .body(new DecodedBody(body.contentType(), Okio.buffer(decoded)))
+            .build();
+    }
+
+    /**
+     * 解压后的响应体，长度未知
+     */
+    private static class DecodedBody extends ResponseBody {
+
+        private final MediaType contentType;
+
+        private final BufferedSource source;
+
+        private DecodedBody(MediaType contentType, BufferedSource source) {
+            this.contentType = contentType;
+            this.source = source;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return -1L;
+        }
+
+        @NotNull
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   RetryInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 14:10
+ * Description:    幂等请求重试拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 14:10    1.0.0         幂等请求重试拦截器
+ */
+
+import com.itblare.itools.exception.CircuitOpenException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 幂等请求重试拦截器
+ * <p>
+ * 只重试幂等请求（GET、HEAD、OPTIONS、TRACE、PUT、DELETE 或带 {@code Idempotency-Key} 头的请求，且请求体可重放），
+ * 触发条件为网络异常或 408 / 429 / 500 / 502 / 503 / 504。退避采用指数增长加全抖动：
+ * 第 n 次重试前等待 {@code [0, min(maxDelay, baseDelay * 2^n)]} 内的随机时长，避免大量客户端同时重试；
+ * 响应带秒数形式的 {@code Retry-After} 时以其为准（不超过最大退避）。熔断（{@link CircuitOpenException}）与已取消的调用不重试。
+ *
+ * @author Blare
+ * @create 2026/10/18 14:10
+ * @since 1.0.0
+ */
+public class RetryInterceptor implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryInterceptor.class);
+
+    /**
+     * 最大重试次数
+     */
+    private int maxRetries = 2;
+
+    /**
+     * 基础退避（毫秒）
+     */
+    private long baseDelayMillis = 100L;
+
+    /**
+     * 最大退避（毫秒）
+     */
+    private long maxDelayMillis = 2_000L;
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public void setBaseDelayMillis(long baseDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (maxRetries <= 0 || !isIdempotent(request)) {
+            return chain.proceed(request);
+        }
+        for (int attempt = 0; ; attempt++) {
+            Response response = null;
+            try {
+                response = chain.proceed(request);
+                if (attempt >= maxRetries || !isRetryable(response.code())) {
+                    return response;
+                }
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (IOException e) {
+                if (attempt >= maxRetries || chain.call().isCanceled()) {
+                    throw e;
+                }
+                LOGGER.debug("请求失败，准备第 {} 次重试：{} {}", attempt + 1, request.url(), e.toString());
+            }
+            final long delay = backoff(attempt, response);
+            if (Objects.nonNull(response)) {
+                LOGGER.debug("响应 {}，准备第 {} 次重试：{}", response.code(), attempt + 1, request.url());
+                response.close();
+            }
+            sleep(delay);
+        }
+    }
+
+    /**
+     * 是否为可重放的幂等请求
+     *
+     * @param request 请求
+     * @return {@link boolean}
+     * @method isIdempotent
+     * @date 2026/10/18 14:20
+     */
+    public static boolean isIdempotent(Request request) {
+        final RequestBody body = request.body();
+        if (Objects.nonNull(body) && (body.isOneShot() || body.isDuplex())) {
+            return false;
+        }
+        switch (request.method()) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "TRACE":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return Objects.nonNull(request.header("Idempotency-Key"));
+        }
+    }
+
+    private static boolean isRetryable(int code) {
+        return 408 == code || 429 == code || 500 == code || 502 == code || 503 == code || 504 == code;
+    }
+
+    private long backoff(int attempt, Response response) {
+        if (Objects.nonNull(response)) {
+            final String retryAfter = response.header("Retry-After");
+            if (Objects.nonNull(retryAfter)) {
+                try {
+                    return Math.min(maxDelayMillis, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+                } catch (NumberFormatException ignored) {
+                    // HTTP 日期格式，按普通退避处理
+                }
+            }
+        }
+        final long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 30));
+        return cap <= 0 ? 0L : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("重试等待被中断");
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.itblare.itools.http.interceptor;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.interceptor
+ * ClassName:   SingleFlightInterceptor
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 17:10
+ * Description:    相同请求合并拦截器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 17:10    1.0.0         相同请求合并拦截器
+ */
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 相同请求合并拦截器（single-flight）
+ * <p>
+ * 方法、地址与请求头都相同的 GET / HEAD 请求同时在途时，只有第一个（领头请求）真正发出，其余请求等待并共享它的结果：
+ * 响应体读入一个字节数组，每个调用方拿到基于同一数组的独立响应，互不影响读取进度。
+ * 领头请求收到响应头时即停止接受新的等待者；此时没有等待者则原样返回响应，响应体仍可流式读取，不做任何复制。
+ * 只合并在途请求，之后到达的请求重新发出，不做缓存。
+ * 响应体超过上限时不共享，等待者各自发出请求；领头请求被其调用方取消时同样如此，其他异常则传给所有等待者。
+ * 等待者在等待期间被取消（含整体超时）时立即失败。
+ *
+ * @author Blare
+ * @create 2026/10/18 17:10
+ * @since 1.0.0
+ */
+public class SingleFlightInterceptor implements Interceptor {
+
+    /**
+     * 等待结果时检查调用是否已取消的间隔（毫秒）
+     */
+    private static final long POLL_MILLIS = 50L;
+
+    /**
+     * 可共享的最大响应体（字节）
+     */
+    private long maxBodyBytes = 4L * 1024L * 1024L;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * 实际发出的领头请求数
+     *
+     * @return {@link long}
+     */
+    public long getLeaders() {
+        return leaders.sum();
+    }
+
+    /**
+     * 共享领头请求结果、未发出网络请求的请求数
+     *
+     * @return {@link long}
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (!("GET".equals(request.method()) || "HEAD".equals(request.method())) || Objects.nonNull(request.body())) {
+            return chain.proceed(request);
+        }
+        final String key = request.method() + ' ' + request.url() + '\n' + request.headers();
+        final Flight flight = new Flight();
+        final Flight existing = flights.putIfAbsent(key, flight);
+        if (Objects.nonNull(existing)) {
+            // 领头请求已收到响应头（不再接受等待者）时自行发出
+            if (!existing.join()) {
+                return chain.proceed(request);
+            }
+            final Shared shared = await(chain, existing.result);
+            if (Objects.isNull(shared)) {
+                return chain.proceed(request);
+            }
+            coalesced.increment();
+            return shared.toResponse(request);
+        }
+        leaders.increment();
+        try {
+            final Response response = chain.proceed(request);
+            flights.remove(key, flight);
+            if (0 == flight.close()) {
+                // 没有等待者，不必读入响应体
+                flight.result.complete(null);
+                return response;
+            }
+            final Shared shared = buffer(response);
+            flight.result.complete(shared);
+            return Objects.isNull(shared) ? response : shared.toResponse(request);
+        } catch (IOException | RuntimeException e) {
+            flights.remove(key, flight);
+            flight.close();
+            if (chain.call().isCanceled()) {
+                flight.result.complete(null);
+            } else {
+                flight.result.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 读入响应体；超过上限时返回 null，原响应保持未读
+     */
+    @Nullable
+    private Shared buffer(Response response) throws IOException {
+        final ResponseBody body = response.body();
+        if (Objects.isNull(body)) {
+            return new Shared(response, new byte[0], null);
+        }
+        if (body.contentLength() > maxBodyBytes) {
+            return null;
+        }
+        try {
+            final ResponseBody peeked = response.peekBody(maxBodyBytes + 1);
+            if (peeked.contentLength() > maxBodyBytes) {
+                return null;
+            }
+            final byte[] bytes = peeked.bytes();
+            response.close();
+            return new Shared(response, bytes, body.contentType());
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    @Nullable
+    private static Shared await(Chain chain, CompletableFuture<Shared> flight) throws IOException {
+        try {
+            while (true) {
+                try {
+                    return flight.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (chain.call().isCanceled()) {
+                        throw new IOException("Canceled");
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待合并请求时被中断");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw new IOException(Objects.toString(cause.getMessage(), cause.toString()), cause);
+        }
+    }
+
+    /**
+     * 一次在途的领头请求
+     */
+    private static class Flight {
+
+        private final CompletableFuture<Shared> result = new CompletableFuture<>();
+
+        /**
+         * 以下字段由 this 保护
+         */
+        private int waiters;
+
+        private boolean closed;
+
+        /**
+         * 加入等待，领头请求已收到响应头时返回 false
+         */
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        /**
+         * 停止接受等待者，返回已加入的等待者数
+         */
+        synchronized int close() {
+            closed = true;
+            return waiters;
+        }
+    }
+
+    /**
+     * 共享的响应
+     */
+    private static class Shared {
+
+        private final Protocol protocol;
+
+        private final int code;
+
+        private final String message;
+
+        private final okhttp3.Headers headers;
+
+        private final byte[] body;
+
+        private final MediaType contentType;
+
+        private final long sentAt;
+
+        private final long receivedAt;
+
+        private Shared(Response response, byte[] body, MediaType contentType) {
+            this.protocol = response.protocol();
+            this.code = response.code();
+            this.message = response.message();
+            this.headers = response.headers();
+            this.body = body;
+            this.contentType = contentType;
+            this.sentAt = response.sentRequestAtMillis();
+            this.receivedAt = response.receivedResponseAtMillis();
+        }
+
+        Response toResponse(Request request) {
+            return new Response.Builder()
+                .request(request)
+                .protocol(protocol)
+                .code(code)
+                .message(message)
+                .headers(headers)
+                .body(new SharedBody(body, contentType))
+                .sentRequestAtMillis(sentAt)
+                .receivedResponseAtMillis(receivedAt)
+                .build();
+        }
+    }
+
+    /**
+     * 直接读取共享数组的响应体，不复制整个数组
+     */
+    private static class SharedBody extends ResponseBody {
+
+        private final byte[] bytes;
+
+        private final MediaType contentType;
+
+        private BufferedSource source;
+
+        private SharedBody(byte[] bytes, MediaType contentType) {
+            this.bytes = bytes;
+            this.contentType = contentType;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return bytes.length;
+        }
+
+        @NotNull
+        @Override
+        public synchronized BufferedSource source() {
+            if (Objects.isNull(source)) {
+                source = Okio.buffer(Okio.source(new ByteArrayInputStream(bytes)));
+            }
+            return source;
+        }
+    }
+}
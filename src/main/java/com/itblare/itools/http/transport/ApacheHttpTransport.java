@@ -0,0 +1,149 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   ApacheHttpTransport
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:30
+ * Description:    基于 Apache HttpClient 的传输层
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:30    1.0.0         基于 Apache HttpClient 的传输层
+ */
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Apache HttpClient 的传输层
+ * <p>
+ * 持有一个池化的 {@link CloseableHttpClient}，连接数与空闲回收周期与 OkHttp 默认客户端一致；
+ * 实例应当复用（见 {@link HttpTransports#apache()}），每个实例都有自己的连接池。
+ * Apache HttpClient 4.x 没有整体超时，请求指定的超时作用于连接与单次读取。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:30
+ * @since 1.0.0
+ */
+public class ApacheHttpTransport implements HttpTransport {
+
+    /**
+     * 最大连接数
+     */
+    private static final int MAX_TOTAL = 64;
+    /**
+     * 单主机最大连接数
+     */
+    private static final int MAX_PER_ROUTE = 16;
+    /**
+     * 空闲连接回收周期（单位分钟）
+     */
+    private static final int MAX_IDLE_MINUTES = 5;
+    /**
+     * 连接超时（单位毫秒）
+     */
+    private static final int CONNECT_TIMEOUT = 10_000;
+    /**
+     * 读取超时（单位毫秒）
+     */
+    private static final int SOCKET_TIMEOUT = 30_000;
+
+    private final CloseableHttpClient client;
+
+    private final RequestConfig defaultConfig;
+
+    public ApacheHttpTransport() {
+        final PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(MAX_IDLE_MINUTES, TimeUnit.MINUTES);
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        this.defaultConfig = RequestConfig.custom()
+            .setConnectTimeout(CONNECT_TIMEOUT)
+            .setConnectionRequestTimeout(CONNECT_TIMEOUT)
+            .setSocketTimeout(SOCKET_TIMEOUT)
+            .build();
+        this.client = HttpClients.custom()
+            .setConnectionManager(manager)
+            .setDefaultRequestConfig(defaultConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(MAX_IDLE_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    public ApacheHttpTransport(CloseableHttpClient client) {
+        this.client = Objects.requireNonNull(client);
+        this.defaultConfig = null;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        final RequestBuilder builder = RequestBuilder.create(request.getMethod()).setUri(request.getUrl());
+        request.getHeaders().forEach(builder::setHeader);
+        if (Objects.nonNull(request.getBody())) {
+            final ContentType contentType = Objects.isNull(request.getContentType())
+                ? ContentType.APPLICATION_OCTET_STREAM : ContentType.parse(request.getContentType());
+            builder.setEntity(new ByteArrayEntity(request.getBody(), contentType));
+        }
+        if (Objects.nonNull(request.getTimeout()) && !request.getTimeout().isZero()) {
+            final int timeout = (int) Math.min(Integer.MAX_VALUE, request.getTimeout().toMillis());
+            final RequestConfig.Builder config = Objects.isNull(defaultConfig) ? RequestConfig.custom() : RequestConfig.copy(defaultConfig);
+            builder.setConfig(config.setConnectTimeout(timeout).setSocketTimeout(timeout).build());
+        }
+        return new ApacheResponse(client.execute(builder.build()));
+    }
+
+    @Override
+    public String name() {
+        return "apache";
+    }
+
+    private static class ApacheResponse implements TransportResponse {
+
+        private final CloseableHttpResponse response;
+
+        private ApacheResponse(CloseableHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.getStatusLine().getStatusCode();
+        }
+
+        @Override
+        public String header(String name) {
+            final Header header = response.getFirstHeader(name);
+            return Objects.isNull(header) ? null : header.getValue();
+        }
+
+        @Override
+        public long contentLength() {
+            final HttpEntity entity = response.getEntity();
+            return Objects.isNull(entity) ? -1L : entity.getContentLength();
+        }
+
+        @Override
+        public InputStream body() throws IOException {
+            final HttpEntity entity = response.getEntity();
+            return Objects.isNull(entity) ? InputStream.nullInputStream() : entity.getContent();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   HttpTransport
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:10
+ * Description:    HTTP 传输层
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:10    1.0.0         HTTP 传输层
+ */
+
+import java.io.IOException;
+
+/**
+ * HTTP 传输层
+ * <p>
+ * 文件与下载相关代码统一通过该接口发起请求，具体实现（OkHttp、Apache HttpClient、JDK HttpClient）
+ * 由 {@link HttpTransports} 选择，每种实现在进程内只持有一个连接池。
+ * 自定义实现可通过 {@code META-INF/services/com.itblare.itools.http.transport.HttpTransport} 注册。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:10
+ * @since 1.0.0
+ */
+public interface HttpTransport {
+
+    /**
+     * 执行请求
+     *
+     * @param request 请求
+     * @return {@link TransportResponse} 调用方负责关闭，关闭后连接归还连接池
+     * @throws IOException 网络异常
+     * @method execute
+     * @date 2026/10/18 9:12
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * 实现名称
+     *
+     * @return {@link String}
+     * @method name
+     * @date 2026/10/18 9:13
+     */
+    String name();
+}
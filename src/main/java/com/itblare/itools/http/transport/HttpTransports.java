@@ -0,0 +1,138 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   HttpTransports
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:50
+ * Description:    传输层实现选择
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:50    1.0.0         传输层实现选择
+ */
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * 传输层实现选择
+ * <p>
+ * 默认实现按以下顺序确定，确定后在进程内共享：
+ * <ol>
+ *     <li>{@link #setDefault(HttpTransport)} 显式设置；</li>
+ *     <li>系统属性 {@code itools.http.transport}：{@code okhttp}、{@code apache}、{@code jdk}；</li>
+ *     <li>{@link ServiceLoader} 发现的第一个 {@link HttpTransport}；</li>
+ *     <li>{@link OkHttpTransport}。</li>
+ * </ol>
+ * 三种内置实现各自只有一个共享实例，即各自只有一个连接池。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:50
+ * @since 1.0.0
+ */
+public final class HttpTransports {
+
+    /**
+     * 选择默认实现的系统属性
+     */
+    public static final String PROPERTY = "itools.http.transport";
+
+    private static volatile HttpTransport defaultTransport;
+
+    private HttpTransports() {
+    }
+
+    /**
+     * 默认传输层
+     *
+     * @return {@link HttpTransport}
+     * @method getDefault
+     * @date 2026/10/18 9:55
+     */
+    public static HttpTransport getDefault() {
+        HttpTransport transport = defaultTransport;
+        if (Objects.isNull(transport)) {
+            synchronized (HttpTransports.class) {
+                transport = defaultTransport;
+                if (Objects.isNull(transport)) {
+                    transport = lookup();
+                    defaultTransport = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * 设置默认传输层，已创建的下载器不受影响
+     *
+     * @param transport 传输层
+     * @method setDefault
+     * @date 2026/10/18 9:56
+     */
+    public static void setDefault(HttpTransport transport) {
+        defaultTransport = Objects.requireNonNull(transport);
+    }
+
+    public static HttpTransport okhttp() {
+        return OkHttpHolder.INSTANCE;
+    }
+
+    public static HttpTransport apache() {
+        return ApacheHolder.INSTANCE;
+    }
+
+    public static HttpTransport jdk() {
+        return JdkHolder.INSTANCE;
+    }
+
+    /**
+     * 按名称获取内置实现
+     *
+     * @param name okhttp、apache 或 jdk
+     * @return {@link HttpTransport}
+     * @method of
+     * @date 2026/10/18 9:58
+     */
+    public static HttpTransport of(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "okhttp":
+                return okhttp();
+            case "apache":
+                return apache();
+            case "jdk":
+                return jdk();
+            default:
+                throw new IllegalArgumentException("unknown http transport: " + name);
+        }
+    }
+
+    private static HttpTransport lookup() {
+        final String name = System.getProperty(PROPERTY);
+        if (Objects.nonNull(name) && !name.trim().isEmpty()) {
+            return of(name);
+        }
+        final Iterator<HttpTransport> iterator = ServiceLoader.load(HttpTransport.class).iterator();
+        if (iterator.hasNext()) {
+            return iterator.next();
+        }
+        return okhttp();
+    }
+
+    /**
+     * 延迟初始化，未使用的实现不创建连接池
+     */
+    private static class OkHttpHolder {
+        private static final HttpTransport INSTANCE = new OkHttpTransport();
+    }
+
+    private static class ApacheHolder {
+        private static final HttpTransport INSTANCE = new ApacheHttpTransport();
+    }
+
+    private static class JdkHolder {
+        private static final HttpTransport INSTANCE = new JdkHttpTransport();
+    }
+}
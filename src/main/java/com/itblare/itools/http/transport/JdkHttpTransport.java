@@ -0,0 +1,116 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   JdkHttpTransport
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:40
+ * Description:    基于 JDK HttpClient 的传输层
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:40    1.0.0         基于 JDK HttpClient 的传输层
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 基于 JDK HttpClient 的传输层
+ * <p>
+ * 持有一个共享的 {@link HttpClient}，连接池由 JDK 管理（大小通过系统属性 {@code jdk.httpclient.connectionPoolSize} 调整）。
+ * 请求指定的超时只作用到收到响应头为止，读取响应体不受限制。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:40
+ * @since 1.0.0
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    /**
+     * 连接超时
+     */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build());
+    }
+
+    public JdkHttpTransport(HttpClient client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+        request.getHeaders().forEach(builder::setHeader);
+        if (Objects.nonNull(request.getBody())) {
+            if (Objects.nonNull(request.getContentType())) {
+                builder.setHeader("Content-Type", request.getContentType());
+            }
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.ofByteArray(request.getBody()));
+        } else {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+        if (Objects.nonNull(request.getTimeout()) && !request.getTimeout().isZero()) {
+            builder.timeout(request.getTimeout());
+        }
+        try {
+            return new JdkResponse(client.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("请求被中断：" + request.getUrl());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "jdk";
+    }
+
+    private static class JdkResponse implements TransportResponse {
+
+        private final HttpResponse<InputStream> response;
+
+        private JdkResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String header(String name) {
+            return response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public long contentLength() {
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+        }
+
+        @Override
+        public InputStream body() {
+            return response.body();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.body().close();
+        }
+    }
+}
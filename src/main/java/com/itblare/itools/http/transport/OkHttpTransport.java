@@ -0,0 +1,115 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   OkHttpTransport
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:20
+ * Description:    基于 OkHttp 的传输层
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:20    1.0.0         基于 OkHttp 的传输层
+ */
+
+import com.itblare.itools.http.OkHttpClient;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 OkHttp 的传输层（默认实现）
+ * <p>
+ * 默认使用 {@link OkHttpClient#getDefaultClient()}，与 {@link OkHttpClient} 的静态方法共用同一个连接池与调度线程。
+ * 请求指定的整体超时通过 {@link Call#timeout()} 逐次设置，不派生新的客户端。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:20
+ * @since 1.0.0
+ */
+public class OkHttpTransport implements HttpTransport {
+
+    private final okhttp3.OkHttpClient client;
+
+    public OkHttpTransport() {
+        this(OkHttpClient.getDefaultClient());
+    }
+
+    public OkHttpTransport(okhttp3.OkHttpClient client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    public okhttp3.OkHttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        final Request.Builder builder = new Request.Builder().url(request.getUrl());
+        request.getHeaders().forEach(builder::header);
+        RequestBody body = null;
+        if (Objects.nonNull(request.getBody())) {
+            final MediaType mediaType = Objects.isNull(request.getContentType()) ? null : MediaType.parse(request.getContentType());
+            body = RequestBody.create(request.getBody(), mediaType);
+        }
+        builder.method(request.getMethod(), body);
+        final Call call = client.newCall(builder.build());
+        if (Objects.nonNull(request.getTimeout())) {
+            if (request.getTimeout().isZero()) {
+                call.timeout().clearTimeout();
+            } else {
+                call.timeout().timeout(request.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return new OkHttpResponse(call.execute());
+    }
+
+    @Override
+    public String name() {
+        return "okhttp";
+    }
+
+    private static class OkHttpResponse implements TransportResponse {
+
+        private final Response response;
+
+        private OkHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.code();
+        }
+
+        @Override
+        public String header(String name) {
+            return response.header(name);
+        }
+
+        @Override
+        public long contentLength() {
+            final ResponseBody body = response.body();
+            return Objects.isNull(body) ? -1L : body.contentLength();
+        }
+
+        @Override
+        public InputStream body() {
+            final ResponseBody body = response.body();
+            return Objects.isNull(body) ? InputStream.nullInputStream() : body.byteStream();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
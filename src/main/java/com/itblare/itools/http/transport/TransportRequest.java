@@ -0,0 +1,111 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   TransportRequest
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:16
+ * Description:    HTTP 传输层请求
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:16    1.0.0         HTTP 传输层请求
+ */
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * HTTP 传输层请求
+ * <pre>
+ * TransportRequest.get(url).header("Range", "bytes=0-0").timeout(Duration.ZERO);
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/18 9:16
+ * @since 1.0.0
+ */
+public class TransportRequest {
+
+    private final String method;
+
+    private final String url;
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    private byte[] body;
+
+    private String contentType;
+
+    /**
+     * 整体超时，null 表示使用实现的默认值，{@link Duration#ZERO} 表示不限（大文件下载）
+     */
+    private Duration timeout;
+
+    public TransportRequest(String method, String url) {
+        this.method = Objects.requireNonNull(method);
+        this.url = Objects.requireNonNull(url);
+    }
+
+    public static TransportRequest get(String url) {
+        return new TransportRequest("GET", url);
+    }
+
+    public static TransportRequest head(String url) {
+        return new TransportRequest("HEAD", url);
+    }
+
+    public static TransportRequest post(String url, byte[] body, String contentType) {
+        return new TransportRequest("POST", url).body(body, contentType);
+    }
+
+    public TransportRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public TransportRequest headers(Map<String, String> headers) {
+        if (Objects.nonNull(headers)) {
+            this.headers.putAll(headers);
+        }
+        return this;
+    }
+
+    public TransportRequest body(byte[] body, String contentType) {
+        this.body = body;
+        this.contentType = contentType;
+        return this;
+    }
+
+    public TransportRequest timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
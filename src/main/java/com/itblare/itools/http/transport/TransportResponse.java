@@ -0,0 +1,68 @@
+package com.itblare.itools.http.transport;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.http.transport
+ * ClassName:   TransportResponse
+ * Author:   Blare
+ * Date:     Created in 2026/10/18 9:14
+ * Description:    HTTP 传输层响应
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/18 9:14    1.0.0         HTTP 传输层响应
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * HTTP 传输层响应
+ * <p>
+ * 响应体读完并关闭后连接才会归还连接池，未读完就关闭的连接可能被直接断开。
+ *
+ * @author Blare
+ * @create 2026/10/18 9:14
+ * @since 1.0.0
+ */
+public interface TransportResponse extends Closeable {
+
+    /**
+     * 状态码
+     *
+     * @return {@link int}
+     */
+    int code();
+
+    /**
+     * 响应头，不存在时返回 null，多个同名头返回第一个
+     *
+     * @param name 名称（不区分大小写）
+     * @return {@link String}
+     */
+    String header(String name);
+
+    /**
+     * 响应体长度，未知时为 -1
+     *
+     * @return {@link long}
+     */
+    long contentLength();
+
+    /**
+     * 响应体，没有响应体时为空流
+     *
+     * @return {@link InputStream}
+     * @throws IOException 获取响应体失败
+     */
+    InputStream body() throws IOException;
+
+    /**
+     * 是否为 2xx
+     *
+     * @return {@link boolean}
+     */
+    default boolean isSuccessful() {
+        return code() >= 200 && code() < 300;
+    }
+}
@@ -12,7 +12,10 @@ package com.itblare.itools.task;
  * Blare           2021/5/6 9:31    1.0.0         多任务处理抽象
  */
 
+import com.itblare.itools.task.listener.TaskListener;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -20,6 +23,13 @@ import java.util.concurrent.CountDownLatch;
 
 /**
  * 多任务处理抽象
+ * <p>
+ * 实例可在线程间共享：{@link #addTask(Runnable...)} 添加的任务按线程分别保存，{@link #run()} 只取走并等待
+ * 当前线程添加的任务，不会执行或等待其他线程的任务。{@link #run(Runnable...)} 只执行传入的任务，不涉及已添加的任务。
+ * 批次状态（倒计数锁等）只存在于 {@link #execute(List)} 的局部变量中，并发的批次互不干扰。
+ * 添加任务后应在同一线程调用 {@link #run()}，否则任务会一直留在该线程上。
+ * <p>
+ * 子类实现 {@link #execute(List)} 执行一个批次；早期直接覆盖 {@link #run()} 并读取 {@link #taskList} 的子类需改为实现该方法。
  *
  * @author Blare
  * @create 2021/5/6 9:31
@@ -29,32 +39,97 @@ public abstract class AbstractMultiTaskHandler implements MultiTaskHandler {
 
     /**
      * 子线程倒计数锁
+     *
+     * @deprecated 批次的倒计数锁已改为 {@link #execute(List)} 内的局部变量，该字段不再使用
      */
+    @Deprecated
     protected CountDownLatch childLatch;
 
     /**
      * 任务列表
+     *
+     * @deprecated 已添加的任务改为按线程保存，该字段不再使用，子类应通过 {@link #drainTasks()} 取用
      */
+    @Deprecated
     protected List<Runnable> taskList;
 
+    /**
+     * 各线程已添加、尚未执行的任务
+     */
+    private final ThreadLocal<List<Runnable>> pendingTasks = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * 任务执行监听器，为空时不采集指标
+     */
+    protected volatile TaskListener taskListener;
+
     // 子线程异常
 
     public AbstractMultiTaskHandler() {
         this.taskList = new ArrayList<>();
     }
 
+    /**
+     * @deprecated 批次的倒计数锁已改为 {@link #execute(List)} 内的局部变量，设置无效
+     */
+    @Deprecated
     public void setChildLatch(CountDownLatch childLatch) {
         this.childLatch = childLatch;
     }
 
+    public TaskListener getTaskListener() {
+        return taskListener;
+    }
+
+    public void setTaskListener(TaskListener taskListener) {
+        this.taskListener = taskListener;
+    }
+
     @Override
     public void addTask(Runnable... tasks) {
         if (Objects.isNull(tasks)) {
-            taskList = new ArrayList<>();
+            return;
         }
-        Collections.addAll(taskList, tasks);
+        Collections.addAll(pendingTasks.get(), tasks);
+    }
+
+    /**
+     * 执行并等待当前线程已添加的任务
+     */
+    @Override
+    public void run() {
+        execute(drainTasks());
     }
 
+    /**
+     * 只执行并等待给定的任务，不影响通过 {@link #addTask(Runnable...)} 添加的任务，可在共享实例上并发调用
+     *
+     * @param tasks 任务
+     */
     @Override
-    public abstract void run();
+    public void run(Runnable... tasks) {
+        execute(Objects.isNull(tasks) ? Collections.emptyList() : Arrays.asList(tasks));
+    }
+
+    /**
+     * 取走当前线程已添加的任务
+     *
+     * @return {@link List}
+     * @method drainTasks
+     * @date 2026/10/17 14:50
+     */
+    protected List<Runnable> drainTasks() {
+        final List<Runnable> tasks = pendingTasks.get();
+        pendingTasks.remove();
+        return tasks;
+    }
+
+    /**
+     * 执行一个批次的任务，实现不得在实例字段中保存批次状态
+     *
+     * @param tasks 本次批次的任务
+     * @method execute
+     * @date 2026/10/17 14:52
+     */
+    protected abstract void execute(List<Runnable> tasks);
 }
@@ -0,0 +1,404 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   FairShareExecutor
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 17:10
+ * Description:    分组加权公平调度线程池
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 17:10    1.0.0         分组加权公平调度线程池
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 分组加权公平调度线程池
+ * <p>
+ * 任务按分组排队，分组之间按权重做加权公平调度（步长调度：每派发一个任务，分组的虚拟时间前进 1/权重，
+ * 总是派发虚拟时间最小的分组），分组内按优先级（大者优先）、同优先级按提交顺序执行。
+ * 这样后台批量任务排满队列时，交互类任务（如验证码渲染）仍按其权重份额及时得到线程。
+ * 通过 {@link #forGroup(String)} 得到的视图可直接交给 {@link TaskParallelWithThreadPool}：
+ * <pre>
+ * FairShareExecutor executor = new FairShareExecutor(16);
+ * executor.registerGroup("captcha", 8);
+ * executor.registerGroup("upload", 1);
+ * new TaskParallelWithThreadPool(executor.forGroup("captcha"));
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 17:10
+ * @since 1.0.0
+ */
+public class FairShareExecutor extends AbstractExecutorService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FairShareExecutor.class);
+
+    /**
+     * 默认分组
+     */
+    public static final String DEFAULT_GROUP = "default";
+
+    /**
+     * 虚拟时间步长基数，步长 = STRIDE / 权重
+     */
+    private static final long STRIDE = 1L << 20;
+
+    private static final AtomicInteger INSTANCE_INDEX = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * 分组，由 {@link #lock} 保护
+     */
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final CountDownLatch terminated;
+
+    /**
+     * 全局虚拟时间：最近一次派发的分组虚拟时间
+     */
+    private long virtualTime;
+
+    /**
+     * 排队任务总数
+     */
+    private int queued;
+
+    /**
+     * 提交序号，保证同优先级先进先出
+     */
+    private long sequence;
+
+    private volatile boolean shutdown;
+
+    public FairShareExecutor(int threads) {
+        this(threads, defaultThreadFactory());
+    }
+
+    public FairShareExecutor(int threads, ThreadFactory threadFactory) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.terminated = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            final Thread worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * 注册或调整分组权重，未注册的分组权重为 1
+     *
+     * @param group  分组
+     * @param weight 权重
+     * @method registerGroup
+     * @date 2026/10/17 17:20
+     */
+    public void registerGroup(String group, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+        lock.lock();
+        try {
+            groupOf(group).weight = weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 分组视图：提交到该视图的任务进入对应分组，关闭视图不影响线程池
+     *
+     * @param group 分组
+     * @return {@link ExecutorService}
+     * @method forGroup
+     * @date 2026/10/17 17:22
+     */
+    public ExecutorService forGroup(String group) {
+        return forGroup(group, 0);
+    }
+
+    /**
+     * 分组视图，使用固定优先级
+     *
+     * @param group    分组
+     * @param priority 优先级，越大越先执行
+     * @return {@link ExecutorService}
+     * @method forGroup
+     * @date 2026/10/17 17:23
+     */
+    public ExecutorService forGroup(String group, int priority) {
+        return new GroupView(Objects.requireNonNull(group), priority);
+    }
+
+    /**
+     * 提交到指定分组
+     *
+     * @param group    分组
+     * @param priority 优先级，越大越先执行
+     * @param command  任务
+     * @method execute
+     * @date 2026/10/17 17:25
+     */
+    public void execute(String group, int priority, Runnable command) {
+        Objects.requireNonNull(command);
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("executor already shut down");
+            }
+            final Group g = groupOf(group);
+            if (g.tasks.isEmpty()) {
+                // 分组由空闲变为活跃时追平全局虚拟时间，避免积攒份额后突发抢占
+                g.pass = Math.max(g.pass, virtualTime);
+            }
+            g.tasks.add(new Entry(priority, sequence++, command));
+            queued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        execute(DEFAULT_GROUP, 0, command);
+    }
+
+    /**
+     * 分组排队任务数
+     *
+     * @param group 分组
+     * @return {@link int}
+     * @method getQueued
+     * @date 2026/10/17 17:27
+     */
+    public int getQueued(String group) {
+        lock.lock();
+        try {
+            final Group g = groups.get(group);
+            return null == g ? 0 : g.tasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            shutdown = true;
+            for (Group g : groups.values()) {
+                Entry entry;
+                while (null != (entry = g.tasks.poll())) {
+                    pending.add(entry.command);
+                }
+            }
+            queued = 0;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        workers.forEach(Thread::interrupt);
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return 0 == terminated.getCount();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private void work() {
+        try {
+            Runnable command;
+            while (null != (command = take())) {
+                try {
+                    command.run();
+                } catch (Throwable e) {
+                    LOGGER.warn("分组任务执行异常", e);
+                }
+            }
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * 取出虚拟时间最小的活跃分组中优先级最高的任务，关闭且队列为空时返回 null
+     */
+    private Runnable take() {
+        lock.lock();
+        try {
+            while (0 == queued) {
+                if (shutdown) {
+                    return null;
+                }
+                notEmpty.awaitUninterruptibly();
+            }
+            Group next = null;
+            for (Group g : groups.values()) {
+                if (!g.tasks.isEmpty() && (null == next || g.pass < next.pass)) {
+                    next = g;
+                }
+            }
+            // queued > 0 时必然存在活跃分组
+            final Entry entry = Objects.requireNonNull(next).tasks.poll();
+            virtualTime = next.pass;
+            next.pass += STRIDE / next.weight;
+            queued--;
+            return entry.command;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 调用方需持有锁
+     */
+    private Group groupOf(String group) {
+        return groups.computeIfAbsent(Objects.isNull(group) ? DEFAULT_GROUP : group, k -> new Group());
+    }
+
+    private static ThreadFactory defaultThreadFactory() {
+        final int index = INSTANCE_INDEX.incrementAndGet();
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return r -> {
+            final Thread thread = new Thread(r, "fair-share-" + index + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 分组
+     */
+    private static class Group {
+
+        private final PriorityQueue<Entry> tasks = new PriorityQueue<>();
+
+        private int weight = 1;
+
+        /**
+         * 分组虚拟时间
+         */
+        private long pass;
+    }
+
+    /**
+     * 排队任务
+     */
+    private static class Entry implements Comparable<Entry> {
+
+        private final int priority;
+
+        private final long sequence;
+
+        private final Runnable command;
+
+        private Entry(int priority, long sequence, Runnable command) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.command = command;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            if (priority != o.priority) {
+                return Integer.compare(o.priority, priority);
+            }
+            return Long.compare(sequence, o.sequence);
+        }
+    }
+
+    /**
+     * 分组视图
+     */
+    private class GroupView extends AbstractExecutorService {
+
+        private final String group;
+
+        private final int priority;
+
+        private GroupView(String group, int priority) {
+            this.group = group;
+            this.priority = priority;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            FairShareExecutor.this.execute(group, priority, command);
+        }
+
+        @Override
+        public void shutdown() {
+            // 视图不拥有线程，关闭由 FairShareExecutor 负责
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return FairShareExecutor.this.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return FairShareExecutor.this.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return FairShareExecutor.this.awaitTermination(timeout, unit);
+        }
+    }
+}
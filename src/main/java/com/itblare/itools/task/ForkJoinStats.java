@@ -0,0 +1,98 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   ForkJoinStats
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:10
+ * Description:    ForkJoin 单次运行统计
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:10    1.0.0         ForkJoin 单次运行统计
+ */
+
+/**
+ * ForkJoin 单次运行统计
+ *
+ * @author Blare
+ * @create 2026/10/17 10:10
+ * @since 1.0.0
+ */
+public class ForkJoinStats {
+
+    /**
+     * 线程池并行度
+     */
+    private final int parallelism;
+
+    /**
+     * 本批次任务被其他工作线程窃取执行的次数
+     */
+    private final long steals;
+
+    /**
+     * 拆分次数
+     */
+    private final long splits;
+
+    /**
+     * 实际执行的叶子任务数
+     */
+    private final long leaves;
+
+    /**
+     * 采样到的单个工作队列最大深度
+     */
+    private final int maxQueueDepth;
+
+    /**
+     * 运行耗时（纳秒）
+     */
+    private final long elapsedNanos;
+
+    public ForkJoinStats(int parallelism, long steals, long splits, long leaves, int maxQueueDepth, long elapsedNanos) {
+        this.parallelism = parallelism;
+        this.steals = steals;
+        this.splits = splits;
+        this.leaves = leaves;
+        this.maxQueueDepth = maxQueueDepth;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getSteals() {
+        return steals;
+    }
+
+    public long getSplits() {
+        return splits;
+    }
+
+    public long getLeaves() {
+        return leaves;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ForkJoinStats{" +
+            "parallelism=" + parallelism +
+            ", steals=" + steals +
+            ", splits=" + splits +
+            ", leaves=" + leaves +
+            ", maxQueueDepth=" + maxQueueDepth +
+            ", elapsedMillis=" + elapsedNanos / 1_000_000 +
+            '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   MultiCallableHandler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:45
+ * Description:    有返回值的多任务处理
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:45    1.0.0         有返回值的多任务处理
+ */
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 有返回值的多任务处理
+ *
+ * @author Blare
+ * @create 2026/10/17 10:45
+ * @since 1.0.0
+ */
+public interface MultiCallableHandler<T> {
+
+    /**
+     * 添加任务
+     *
+     * @param tasks 任务
+     * @method addTask
+     * @date 2026/10/17 10:46
+     */
+    @SuppressWarnings("unchecked")
+    void addTask(Callable<T>... tasks);
+
+    /**
+     * 执行任务，按添加顺序返回结果
+     *
+     * @return {@link List}
+     * @throws com.itblare.itools.exception.TaskException 任务失败、超时或等待被中断
+     * @method run
+     * @date 2026/10/17 10:47
+     */
+    List<T> run();
+}
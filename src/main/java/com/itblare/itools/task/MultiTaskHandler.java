@@ -37,4 +37,16 @@ public interface MultiTaskHandler {
      * @date 2021/5/6 0:26
      */
     void run();
+
+    /**
+     * 执行给定的任务；{@link AbstractMultiTaskHandler} 的实现只执行并等待本次传入的任务
+     *
+     * @param tasks 任务
+     * @method run
+     * @date 2026/10/17 14:55
+     */
+    default void run(Runnable... tasks) {
+        addTask(tasks);
+        run();
+    }
 }
@@ -0,0 +1,51 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   SplittableTask
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:05
+ * Description:    可拆分任务
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:05    1.0.0         可拆分任务
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 可拆分任务（类似 {@link java.util.concurrent.RecursiveAction} 的约定）
+ * <p>
+ * {@link TaskForkJoinHandler} 执行时先询问 {@link #shouldSplit()}，需要拆分则递归执行 {@link #split()} 返回的子任务，
+ * 否则直接 {@link #run()}。大任务（如大文件分块计算摘要）拆分后，空闲的工作线程可以窃取子任务执行。
+ *
+ * @author Blare
+ * @create 2026/10/17 10:05
+ * @since 1.0.0
+ */
+public interface SplittableTask extends Runnable {
+
+    /**
+     * 是否需要继续拆分
+     *
+     * @return {@link boolean}
+     * @method shouldSplit
+     * @date 2026/10/17 10:06
+     */
+    default boolean shouldSplit() {
+        return false;
+    }
+
+    /**
+     * 拆分为子任务，仅在 {@link #shouldSplit()} 返回 true 时调用
+     *
+     * @return {@link Collection}
+     * @method split
+     * @date 2026/10/17 10:07
+     */
+    default Collection<? extends SplittableTask> split() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   SubmitPolicy
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 11:20
+ * Description:    任务提交策略
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 11:20    1.0.0         任务提交策略
+ */
+
+/**
+ * 任务提交策略：执行中的任务数达到上限时的处理方式
+ *
+ * @author Blare
+ * @create 2026/10/17 11:20
+ * @since 1.0.0
+ */
+public enum SubmitPolicy {
+
+    /**
+     * 阻塞提交线程，直到有任务完成
+     */
+    BLOCK,
+
+    /**
+     * 立即拒绝，抛出 {@link java.util.concurrent.RejectedExecutionException}
+     */
+    REJECT
+}
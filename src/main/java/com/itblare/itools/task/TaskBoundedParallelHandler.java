@@ -0,0 +1,256 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskBoundedParallelHandler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 11:25
+ * Description:    限流并行处理
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 11:25    1.0.0         限流并行处理
+ */
+
+import com.itblare.itools.exception.TaskException;
+import com.itblare.itools.task.listener.TaskListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 限流并行处理
+ * <p>
+ * 与 {@link TaskParallelHandler} 先收集再统一启动不同，{@link #addTask(Runnable...)} 在拿到许可后立即派发任务，
+ * 同时执行中的任务不超过 {@code maxInFlight} 个；许可耗尽时按 {@link SubmitPolicy} 阻塞或拒绝生产者。
+ * 任务不在内存中排队，批量大小不影响内存占用。{@link #run()} 只等待当前线程通过 {@link #addTask(Runnable...)}
+ * 派发的任务完成，实例共享时不会等待其他线程的任务；{@link #run(Runnable...)} 只等待本批次任务，二者共用同一组许可。
+ * 许可按等待顺序公平发放。
+ * REJECT 策略下批次中途被拒绝时，先等待本批次已派发的任务完成再抛出异常。
+ *
+ * @author Blare
+ * @create 2026/10/17 11:25
+ * @since 1.0.0
+ */
+public class TaskBoundedParallelHandler extends AbstractMultiTaskHandler {
+
+    /**
+     * 最大执行中任务数
+     */
+    private final int maxInFlight;
+
+    /**
+     * 许可耗尽时的提交策略
+     */
+    private final SubmitPolicy policy;
+
+    /**
+     * 执行中任务许可，公平模式
+     */
+    private final Semaphore permits;
+
+    /**
+     * 执行线程池，为空时每个任务新建线程（同一时刻最多 maxInFlight 个）
+     */
+    private final ExecutorService service;
+
+    /**
+     * 各线程通过 {@link #addTask(Runnable...)} 派发、尚未完成的任务
+     */
+    private final ThreadLocal<Outstanding> outstanding = ThreadLocal.withInitial(Outstanding::new);
+
+    public TaskBoundedParallelHandler(int maxInFlight) {
+        this(maxInFlight, SubmitPolicy.BLOCK, null);
+    }
+
+    public TaskBoundedParallelHandler(int maxInFlight, SubmitPolicy policy, ExecutorService service) {
+        super();
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        this.policy = Objects.requireNonNull(policy);
+        this.permits = new Semaphore(maxInFlight, true);
+        this.service = service;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public SubmitPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 当前执行中的任务数
+     *
+     * @return {@link int}
+     * @method getInFlight
+     * @date 2026/10/17 11:31
+     */
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * 获取许可后立即派发任务
+     *
+     * @param tasks 任务
+     * @throws RejectedExecutionException REJECT 策略下许可耗尽
+     * @throws TaskException              BLOCK 策略下等待许可时被中断
+     */
+    @Override
+    public void addTask(Runnable... tasks) {
+        if (Objects.isNull(tasks)) {
+            return;
+        }
+        final TaskListener listener = taskListener;
+        final Outstanding pending = outstanding.get();
+        for (Runnable task : tasks) {
+            pending.increment();
+            try {
+                dispatch(new TaskRunnable(null, task, listener), pending);
+            } catch (RuntimeException e) {
+                pending.decrement();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 等待当前线程已派发的任务完成
+     */
+    @Override
+    public void run() {
+        final Outstanding pending = outstanding.get();
+        outstanding.remove();
+        try {
+            pending.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 受许可约束地派发本批次任务，并只等待本批次完成
+     */
+    @Override
+    protected void execute(List<Runnable> tasks) {
+        final CountDownLatch latch = new CountDownLatch(tasks.size());
+        final TaskListener listener = taskListener;
+        int dispatched = 0;
+        try {
+            for (Runnable task : tasks) {
+                dispatch(new TaskRunnable(latch, task, listener), null);
+                dispatched++;
+            }
+        } catch (RuntimeException e) {
+            // 派发中途失败（拒绝或中断）：未派发的任务不再计入等待，已派发的任务完成后再抛出
+            for (int i = dispatched; i < tasks.size(); i++) {
+                latch.countDown();
+            }
+            await(latch);
+            throw e;
+        }
+        await(latch);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Runnable task, Outstanding pending) {
+        acquire();
+        try {
+            invoke(new PermitRunnable(task, pending));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    protected void invoke(Runnable task) {
+        if (null != service) {
+            service.execute(task);
+        } else {
+            new Thread(task).start();
+        }
+    }
+
+    private void acquire() {
+        if (SubmitPolicy.REJECT == policy) {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException("执行中任务数已达上限：" + maxInFlight);
+            }
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskException("等待任务许可时被中断", e);
+        }
+    }
+
+    /**
+     * 执行完毕释放许可
+     */
+    private class PermitRunnable implements Runnable {
+
+        private final Runnable task;
+
+        private final Outstanding pending;
+
+        private PermitRunnable(Runnable task, Outstanding pending) {
+            this.task = task;
+            this.pending = pending;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (Objects.nonNull(task)) {
+                    task.run();
+                }
+            } finally {
+                permits.release();
+                if (Objects.nonNull(pending)) {
+                    pending.decrement();
+                }
+            }
+        }
+    }
+
+    /**
+     * 一个线程派发、尚未完成的任务数
+     */
+    private static class Outstanding {
+
+        private int count;
+
+        synchronized void increment() {
+            count++;
+        }
+
+        synchronized void decrement() {
+            if (--count == 0) {
+                notifyAll();
+            }
+        }
+
+        synchronized void await() throws InterruptedException {
+            while (count > 0) {
+                wait();
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskCallableHandler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:50
+ * Description:    有返回值的任务并行处理
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:50    1.0.0         有返回值的任务并行处理
+ */
+
+import com.itblare.itools.exception.TaskException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 有返回值的任务并行处理
+ * <p>
+ * 结果按添加顺序返回；任务失败时汇总为 {@link TaskException}（第一个失败为 cause，其余为 suppressed）。
+ * 开启快速失败（默认）时，第一个失败出现后立即取消（中断）其余任务；设置截止时间后，超时同样取消其余任务。
+ * 与 {@link AbstractMultiTaskHandler} 一样，已添加的任务按线程分别保存，{@link #run()} 只执行当前线程添加的任务；
+ * {@link #run(List)} 只执行传入的任务，两者都可在共享实例上并发调用。
+ *
+ * @author Blare
+ * @create 2026/10/17 10:50
+ * @since 1.0.0
+ */
+public class TaskCallableHandler<T> implements MultiCallableHandler<T> {
+
+    /**
+     * 各线程已添加、尚未执行的任务
+     */
+    private final ThreadLocal<List<Callable<T>>> pendingTasks = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * 执行线程池，为空时每个任务新建线程
+     */
+    private volatile ExecutorService service;
+
+    /**
+     * 快速失败
+     */
+    private volatile boolean failFast = true;
+
+    /**
+     * 整批任务的截止时长，为空时不限制
+     */
+    private volatile Duration timeout;
+
+    public TaskCallableHandler() {
+    }
+
+    public TaskCallableHandler(ExecutorService service) {
+        this.service = service;
+    }
+
+    public ExecutorService getService() {
+        return service;
+    }
+
+    public void setService(ExecutorService service) {
+        this.service = service;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addTask(Callable<T>... tasks) {
+        if (null != tasks) {
+            final List<Callable<T>> pending = pendingTasks.get();
+            // 泛型可变参数数组只在本方法内遍历，不传给其他方法
+            for (Callable<T> task : tasks) {
+                pending.add(task);
+            }
+        }
+    }
+
+    @Override
+    public List<T> run() {
+        final List<Callable<T>> tasks = pendingTasks.get();
+        pendingTasks.remove();
+        return run(tasks);
+    }
+
+    /**
+     * 只执行给定的任务，不影响通过 {@link #addTask(Callable[])} 添加的任务，可在共享实例上并发调用
+     *
+     * @param tasks 任务
+     * @return {@link List}
+     * @method run
+     * @date 2026/10/17 15:05
+     */
+    public List<T> run(List<? extends Callable<T>> tasks) {
+        final Duration timeout = this.timeout;
+        final boolean failFast = this.failFast;
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final int size = tasks.size();
+        final BlockingQueue<IndexedFuture<T>> completed = new LinkedBlockingQueue<>();
+        final List<IndexedFuture<T>> futures = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                final IndexedFuture<T> future = new IndexedFuture<>(i, tasks.get(i), completed);
+                futures.add(future);
+                invoke(future);
+            }
+        } catch (RejectedExecutionException e) {
+            cancelAll(futures);
+            throw new TaskException("任务提交被拒绝", e);
+        }
+        final long deadline = Objects.isNull(timeout) ? 0L : System.nanoTime() + timeout.toNanos();
+        final Object[] results = new Object[size];
+        final List<Throwable> failures = new ArrayList<>();
+        try {
+            for (int done = 0; done < size; done++) {
+                final IndexedFuture<T> future;
+                if (Objects.isNull(timeout)) {
+                    future = completed.take();
+                } else {
+                    future = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (Objects.isNull(future)) {
+                        cancelAll(futures);
+                        final TaskException exception = new TaskException(
+                            String.format("任务执行超时：%s 内完成 %d/%d", timeout, done, size), new TimeoutException());
+                        failures.forEach(exception::addSuppressed);
+                        throw exception;
+                    }
+                }
+                try {
+                    results[future.index] = future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                    if (failFast) {
+                        cancelAll(futures);
+                        break;
+                    }
+                } catch (CancellationException e) {
+                    failures.add(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new TaskException("等待任务结果时被中断", e);
+        }
+        if (!failures.isEmpty()) {
+            final TaskException exception = new TaskException(
+                String.format("%d/%d 个任务执行失败", failures.size(), size), failures.get(0));
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+        @SuppressWarnings("unchecked") final List<T> list = (List<T>) Arrays.asList(results);
+        return new ArrayList<>(list);
+    }
+
+    /**
+     * 提交任务
+     *
+     * @param task 任务
+     * @method invoke
+     * @date 2026/10/17 11:02
+     */
+    protected void invoke(Runnable task) {
+        if (null != service) {
+            service.execute(task);
+        } else {
+            new Thread(task).start();
+        }
+    }
+
+    private static void cancelAll(List<? extends FutureTask<?>> futures) {
+        for (FutureTask<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 带序号的任务，完成（含取消）时进入完成队列
+     */
+    private static class IndexedFuture<T> extends FutureTask<T> {
+
+        private final int index;
+
+        private final BlockingQueue<IndexedFuture<T>> completed;
+
+        private IndexedFuture(int index, Callable<T> callable, BlockingQueue<IndexedFuture<T>> completed) {
+            super(callable);
+            this.index = index;
+            this.completed = completed;
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+    }
+}
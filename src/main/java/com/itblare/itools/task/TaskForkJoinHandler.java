@@ -0,0 +1,216 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskForkJoinHandler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 10:15
+ * Description:    ForkJoin 工作窃取并行处理
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 10:15    1.0.0         ForkJoin 工作窃取并行处理
+ */
+
+import com.itblare.itools.task.listener.TaskListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ForkJoin 工作窃取并行处理
+ * <p>
+ * 普通 {@link Runnable} 作为叶子任务执行；{@link SplittableTask} 会按需递归拆分，
+ * 任务耗时不均（一个 4G 文件与大量 1K 文件混合）时由空闲工作线程窃取子任务，实现负载均衡。
+ * 需要本次运行统计时使用 {@link #runWithStats(Runnable...)}，统计只包含本批次的拆分与窃取；
+ * {@link #getLastStats()} 仅为最近完成的一次运行，多线程共享实例时可能属于其他线程的批次。
+ *
+ * @author Blare
+ * @create 2026/10/17 10:15
+ * @since 1.0.0
+ */
+public class TaskForkJoinHandler extends AbstractMultiTaskHandler {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 最近完成的一次运行统计，共享实例时可能属于其他线程的批次
+     */
+    private volatile ForkJoinStats lastStats;
+
+    public TaskForkJoinHandler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TaskForkJoinHandler(ForkJoinPool pool) {
+        super();
+        this.pool = pool;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public ForkJoinStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * 执行给定的任务并返回本次运行统计，多线程共享实例时各自得到自己批次的统计
+     *
+     * @param tasks 任务
+     * @return {@link ForkJoinStats}
+     * @method runWithStats
+     * @date 2026/10/18 19:00
+     */
+    public ForkJoinStats runWithStats(Runnable... tasks) {
+        return invoke(Objects.isNull(tasks) ? Collections.emptyList() : Arrays.asList(tasks));
+    }
+
+    @Override
+    protected void execute(List<Runnable> tasks) {
+        invoke(tasks);
+    }
+
+    private ForkJoinStats invoke(List<Runnable> tasks) {
+        final RunContext context = new RunContext(taskListener);
+        final long start = System.nanoTime();
+        ForkJoinStats stats;
+        try {
+            pool.invoke(new BatchAction(tasks, context));
+        } finally {
+            stats = new ForkJoinStats(pool.getParallelism(),
+                context.steals.sum(),
+                context.splits.sum(),
+                context.leaves.sum(),
+                context.maxQueueDepth.get(),
+                System.nanoTime() - start);
+            lastStats = stats;
+        }
+        return stats;
+    }
+
+    /**
+     * 单次运行的统计上下文
+     */
+    private static class RunContext {
+
+        private final TaskListener listener;
+
+        private final LongAdder splits = new LongAdder();
+
+        /**
+         * 本批次被其他工作线程窃取执行的任务数
+         */
+        private final LongAdder steals = new LongAdder();
+
+        private final LongAdder leaves = new LongAdder();
+
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+        private RunContext(TaskListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * 采样当前工作线程的本地队列深度，开销仅为一次数组下标差
+         */
+        private void sampleQueueDepth() {
+            final int depth = ForkJoinTask.getQueuedTaskCount();
+            int max;
+            while (depth > (max = maxQueueDepth.get())) {
+                if (maxQueueDepth.compareAndSet(max, depth)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 一批任务：全部 fork 后等待
+     */
+    private static class BatchAction extends RecursiveAction {
+
+        private final Collection<? extends Runnable> tasks;
+
+        private final RunContext context;
+
+        private BatchAction(Collection<? extends Runnable> tasks, RunContext context) {
+            this.tasks = tasks;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            final List<TaskAction> actions = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                actions.add(new TaskAction(task, context));
+            }
+            invokeAll(actions);
+        }
+    }
+
+    /**
+     * 单个任务：可拆分则递归拆分，否则直接执行
+     */
+    private static class TaskAction extends RecursiveAction {
+
+        private final Runnable task;
+
+        /**
+         * 叶子节点实际执行的任务，有监听器时包装为 {@link TaskRunnable} 以记录 fork 到执行的等待时间
+         */
+        private final Runnable leaf;
+
+        private final RunContext context;
+
+        /**
+         * 创建（fork）该任务的线程，执行线程不同即视为被窃取
+         */
+        private final Thread owner = Thread.currentThread();
+
+        private TaskAction(Runnable task, RunContext context) {
+            this.task = task;
+            this.leaf = null == context.listener ? task : new TaskRunnable(null, task, context.listener);
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (Thread.currentThread() != owner) {
+                context.steals.increment();
+            }
+            if (task instanceof SplittableTask && ((SplittableTask) task).shouldSplit()) {
+                final Collection<? extends SplittableTask> children = ((SplittableTask) task).split();
+                context.splits.increment();
+                final List<TaskAction> actions = new ArrayList<>(children.size());
+                for (SplittableTask child : children) {
+                    actions.add(new TaskAction(child, context));
+                }
+                // 先 fork 除第一个以外的子任务，当前线程直接计算第一个，其余留给空闲线程窃取
+                for (int i = actions.size() - 1; i > 0; i--) {
+                    actions.get(i).fork();
+                }
+                context.sampleQueueDepth();
+                if (!actions.isEmpty()) {
+                    actions.get(0).compute();
+                }
+                for (int i = 1; i < actions.size(); i++) {
+                    actions.get(i).join();
+                }
+            } else {
+                context.leaves.increment();
+                leaf.run();
+            }
+        }
+    }
+}
@@ -12,8 +12,10 @@ package com.itblare.itools.task;
  * Blare           2021/5/6 9:38    1.0.0         任务处理
  */
 
+import java.util.List;
+
 /**
- * 任务处理
+ * 任务处理：在当前线程中依次执行
  *
  * @author Blare
  * @create 2021/5/6 9:38
@@ -26,8 +28,10 @@ public class TaskHandler extends AbstractMultiTaskHandler{
     }
 
     @Override
-    public void run() {
-
+    protected void execute(List<Runnable> tasks) {
+        for (Runnable task : tasks) {
+            new TaskRunnable(null, task, taskListener).run();
+        }
     }
 
 }
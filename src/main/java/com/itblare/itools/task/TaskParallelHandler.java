@@ -12,6 +12,9 @@ package com.itblare.itools.task;
  * Blare           2021/5/6 9:35    1.0.0         任务并行处理
  */
 
+import com.itblare.itools.task.listener.TaskListener;
+
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -28,30 +31,32 @@ public class TaskParallelHandler extends AbstractMultiTaskHandler {
     }
 
     @Override
-    public void run() {
-        if (1 == taskList.size()) {
-            runInThisThread();
+    protected void execute(List<Runnable> tasks) {
+        if (1 == tasks.size()) {
+            runInThisThread(tasks.get(0));
         } else {
-            runInNewThread();
+            runInNewThread(tasks);
         }
     }
 
     /**
      * 新建线程运行
      *
+     * @param tasks 任务
      * @method runInNewThread
      * @date 2021/5/6 0:44
      */
-    private void runInNewThread() {
-        childLatch = new CountDownLatch(taskList.size());
-        for (Runnable task : taskList) {
-            invoke(new TaskRunnable(childLatch, task));
+    private void runInNewThread(List<Runnable> tasks) {
+        final CountDownLatch latch = new CountDownLatch(tasks.size());
+        final TaskListener listener = taskListener;
+        for (Runnable task : tasks) {
+            invoke(new TaskRunnable(latch, task, listener));
         }
-        taskList.clear();
         try {
-            childLatch.await();
+            latch.await();
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            // 恢复中断标记，交由调用方处理
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -66,10 +71,11 @@ public class TaskParallelHandler extends AbstractMultiTaskHandler {
     /**
      * 当前线程运行
      *
+     * @param task 任务
      * @method runInThisThread
      * @date 2021/5/6 0:44
      */
-    private void runInThisThread() {
-        taskList.get(0).run();
+    private void runInThisThread(Runnable task) {
+        new TaskRunnable(null, task, taskListener).run();
     }
 }
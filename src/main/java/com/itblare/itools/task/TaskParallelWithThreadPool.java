@@ -23,7 +23,7 @@ import java.util.concurrent.ExecutorService;
  */
 public class TaskParallelWithThreadPool extends TaskParallelHandler {
 
-    private ExecutorService service;
+    private volatile ExecutorService service;
 
     public TaskParallelWithThreadPool() {
         super();
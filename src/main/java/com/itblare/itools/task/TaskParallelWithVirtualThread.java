@@ -0,0 +1,119 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskParallelWithVirtualThread
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 9:12
+ * Description:    虚拟线程并行执行任务
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 9:12    1.0.0         虚拟线程并行执行任务
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程并行执行任务
+ * <p>
+ * 每个任务运行在独立的虚拟线程上，适用于大量 I/O 密集型任务（上传、URL 探测等）。
+ * 项目以 Java 17 为目标编译，而虚拟线程在 Java 21 才成为正式 API（19、20 中为预览特性），编译期无法直接引用，
+ * 因此 {@code Executors.newVirtualThreadPerTaskExecutor()} 在运行时反射获取；
+ * 运行在 Java 21 以下时退化为共享的守护线程缓存池，至少避免每个任务都新建平台线程。
+ *
+ * @author Blare
+ * @create 2026/10/17 9:12
+ * @since 1.0.0
+ */
+public class TaskParallelWithVirtualThread extends TaskParallelHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskParallelWithVirtualThread.class);
+
+    /**
+     * 是否支持虚拟线程
+     */
+    private static final boolean VIRTUAL_THREAD_SUPPORTED;
+
+    /**
+     * 任务执行器（虚拟线程或降级的缓存线程池）
+     */
+    private static final Executor EXECUTOR;
+
+    static {
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        VIRTUAL_THREAD_SUPPORTED = null != virtual;
+        if (VIRTUAL_THREAD_SUPPORTED) {
+            EXECUTOR = virtual;
+        } else {
+            LOGGER.warn("当前 JVM 不支持虚拟线程，降级为共享缓存线程池执行");
+            EXECUTOR = Executors.newCachedThreadPool(new FallbackThreadFactory());
+        }
+    }
+
+    public TaskParallelWithVirtualThread() {
+        super();
+    }
+
+    /**
+     * 当前 JVM 是否支持虚拟线程
+     *
+     * @return {@link boolean}
+     * @method isVirtualThreadSupported
+     * @date 2026/10/17 9:20
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_SUPPORTED;
+    }
+
+    @Override
+    protected void invoke(Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    /**
+     * 反射获取虚拟线程执行器，不支持时返回 null
+     *
+     * @return {@link ExecutorService}
+     * @method newVirtualThreadPerTaskExecutor
+     * @date 2026/10/17 9:16
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findStatic(Executors.class,
+                "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) handle.invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        } catch (Throwable e) {
+            // 预览特性未开启（Java 19/20）时会抛出 UnsupportedOperationException
+            LOGGER.debug("虚拟线程不可用：{}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 降级线程工厂：守护线程，避免阻止 JVM 退出
+     */
+    private static class FallbackThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "task-parallel-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.itblare.itools.task;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task
+ * ClassName:   TaskPipeline
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 13:10
+ * Description:    流式任务管道
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 13:10    1.0.0         流式任务管道
+ */
+
+import com.itblare.itools.exception.TaskException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 流式任务管道（生产者 → 多个阶段 → 消费者）
+ * <p>
+ * 每个阶段有独立的并行度与有界输入队列，阶段之间同时运行：慢阶段的输入队列写满后，上游自然阻塞（背压），
+ * 而不是像 {@link MultiTaskHandler#run()} 那样逐批屏障执行。阶段函数返回 null 表示丢弃该元素。
+ * 任一环节抛出异常时整条管道中止，{@link #to(Consumer)} 抛出 {@link TaskException}。
+ * <pre>
+ * TaskPipeline.from(urls)
+ *     .stage("download", 8, 16, this::download)
+ *     .stage("hash", 2, 4, this::hash)
+ *     .to(this::upload);
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 13:10
+ * @since 1.0.0
+ */
+public class TaskPipeline<T> {
+
+    /**
+     * 默认队列容量
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    /**
+     * 轮询间隔（毫秒），用于及时感知管道中止
+     */
+    private static final long POLL_MILLIS = 100L;
+
+    /**
+     * 流结束标记
+     */
+    private static final Object END = new Object();
+
+    /**
+     * 生产者
+     */
+    private final Producer<?> producer;
+
+    /**
+     * 阶段定义
+     */
+    private final List<Stage> stages;
+
+    private TaskPipeline(Producer<?> producer, List<Stage> stages) {
+        this.producer = producer;
+        this.stages = stages;
+    }
+
+    /**
+     * 以集合作为数据源
+     *
+     * @param items 数据
+     * @return {@link TaskPipeline}
+     * @method from
+     * @date 2026/10/17 13:15
+     */
+    public static <T> TaskPipeline<T> from(Iterable<? extends T> items) {
+        Objects.requireNonNull(items);
+        return from(emitter -> items.forEach(emitter));
+    }
+
+    /**
+     * 以生产者作为数据源，生产者在独立线程中运行
+     *
+     * @param producer 生产者
+     * @return {@link TaskPipeline}
+     * @method from
+     * @date 2026/10/17 13:16
+     */
+    public static <T> TaskPipeline<T> from(Producer<T> producer) {
+        return new TaskPipeline<>(Objects.requireNonNull(producer), Collections.emptyList());
+    }
+
+    /**
+     * 追加处理阶段
+     *
+     * @param name          阶段名称（用于线程名）
+     * @param parallelism   并行度
+     * @param queueCapacity 输入队列容量
+     * @param function      处理函数，返回 null 表示丢弃
+     * @return {@link TaskPipeline}
+     * @method stage
+     * @date 2026/10/17 13:18
+     */
+    @SuppressWarnings("unchecked")
+    public <R> TaskPipeline<R> stage(String name, int parallelism, int queueCapacity, Function<? super T, ? extends R> function) {
+        if (parallelism <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("parallelism and queueCapacity must be positive");
+        }
+        final List<Stage> next = new ArrayList<>(stages);
+        next.add(new Stage(name, parallelism, queueCapacity, (Function<Object, Object>) Objects.requireNonNull(function)));
+        return new TaskPipeline<>(producer, next);
+    }
+
+    /**
+     * 在当前线程消费结果并阻塞至管道结束
+     *
+     * @param sink 消费者
+     * @method to
+     * @date 2026/10/17 13:20
+     */
+    public void to(Consumer<? super T> sink) {
+        to(DEFAULT_QUEUE_CAPACITY, sink);
+    }
+
+    /**
+     * 在当前线程消费结果并阻塞至管道结束
+     *
+     * @param queueCapacity 消费者输入队列容量
+     * @param sink          消费者
+     * @method to
+     * @date 2026/10/17 13:21
+     */
+    @SuppressWarnings("unchecked")
+    public void to(int queueCapacity, Consumer<? super T> sink) {
+        Objects.requireNonNull(sink);
+        new Execution(queueCapacity).execute((Consumer<Object>) sink);
+    }
+
+    /**
+     * 数据生产者
+     */
+    @FunctionalInterface
+    public interface Producer<T> {
+
+        /**
+         * 生产数据
+         *
+         * @param emitter 数据发射器，队列满时阻塞
+         * @throws Exception 生产失败，管道中止
+         */
+        void produce(Consumer<? super T> emitter) throws Exception;
+    }
+
+    /**
+     * 阶段定义
+     */
+    private static class Stage {
+
+        private final String name;
+
+        private final int parallelism;
+
+        private final int queueCapacity;
+
+        private final Function<Object, Object> function;
+
+        private Stage(String name, int parallelism, int queueCapacity, Function<Object, Object> function) {
+            this.name = name;
+            this.parallelism = parallelism;
+            this.queueCapacity = queueCapacity;
+            this.function = function;
+        }
+    }
+
+    /**
+     * 单次运行
+     */
+    private class Execution {
+
+        /**
+         * 队列：queues[i] 为第 i 个阶段的输入，最后一个为消费者输入
+         */
+        private final List<BlockingQueue<Object>> queues = new ArrayList<>();
+
+        private final List<Thread> threads = new ArrayList<>();
+
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Execution(int sinkCapacity) {
+            for (Stage stage : stages) {
+                queues.add(new ArrayBlockingQueue<>(stage.queueCapacity));
+            }
+            queues.add(new ArrayBlockingQueue<>(sinkCapacity));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void execute(Consumer<Object> sink) {
+            final BlockingQueue<Object> first = queues.get(0);
+            threads.add(newThread("pipeline-source", () -> {
+                try {
+                    ((Producer<Object>) producer).produce(item -> {
+                        if (Objects.nonNull(item) && !put(first, item)) {
+                            throw new PipelineAbortedException();
+                        }
+                    });
+                    put(first, END);
+                } catch (PipelineAbortedException ignored) {
+                    // 管道已中止
+                } catch (Throwable e) {
+                    abort(e);
+                }
+            }));
+            for (int i = 0; i < stages.size(); i++) {
+                final Stage stage = stages.get(i);
+                final BlockingQueue<Object> in = queues.get(i);
+                final BlockingQueue<Object> out = queues.get(i + 1);
+                final AtomicInteger alive = new AtomicInteger(stage.parallelism);
+                for (int w = 0; w < stage.parallelism; w++) {
+                    threads.add(newThread("pipeline-" + stage.name + "-" + w, () -> work(stage, in, out, alive)));
+                }
+            }
+            threads.forEach(Thread::start);
+
+            final BlockingQueue<Object> last = queues.get(queues.size() - 1);
+            try {
+                Object item;
+                while (Objects.nonNull(item = take(last)) && END != item) {
+                    sink.accept(item);
+                }
+            } catch (Throwable e) {
+                abort(e);
+            }
+            if (Thread.currentThread().isInterrupted() && Objects.isNull(failure.get())) {
+                abort(new InterruptedException("管道消费线程被中断"));
+            }
+            final Throwable e = failure.get();
+            if (Objects.nonNull(e)) {
+                throw new TaskException("任务管道执行失败", e);
+            }
+        }
+
+        private void work(Stage stage, BlockingQueue<Object> in, BlockingQueue<Object> out, AtomicInteger alive) {
+            try {
+                Object item;
+                while (Objects.nonNull(item = take(in))) {
+                    if (END == item) {
+                        // 放回结束标记，通知同阶段的其他线程
+                        put(in, END);
+                        break;
+                    }
+                    final Object result = stage.function.apply(item);
+                    if (Objects.nonNull(result) && !put(out, result)) {
+                        return;
+                    }
+                }
+            } catch (Throwable e) {
+                abort(e);
+            } finally {
+                if (0 == alive.decrementAndGet() && Objects.isNull(failure.get())) {
+                    put(out, END);
+                }
+            }
+        }
+
+        private boolean put(BlockingQueue<Object> queue, Object item) {
+            try {
+                while (Objects.isNull(failure.get())) {
+                    if (queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private Object take(BlockingQueue<Object> queue) {
+            try {
+                while (Objects.isNull(failure.get())) {
+                    final Object item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (Objects.nonNull(item)) {
+                        return item;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+
+        /**
+         * 记录第一个异常并中断所有管道线程
+         */
+        private void abort(Throwable e) {
+            if (failure.compareAndSet(null, e)) {
+                for (Thread thread : threads) {
+                    if (thread != Thread.currentThread()) {
+                        thread.interrupt();
+                    }
+                }
+            }
+        }
+
+        private Thread newThread(String name, Runnable runnable) {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * 管道中止时用于跳出生产者
+     */
+    private static class PipelineAbortedException extends RuntimeException {
+
+        private PipelineAbortedException() {
+            super(null, null, false, false);
+        }
+    }
+}
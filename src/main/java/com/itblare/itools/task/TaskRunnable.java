@@ -12,6 +12,8 @@ package com.itblare.itools.task;
  * Blare           2021/5/6 9:32    1.0.0         任务线程
  */
 
+import com.itblare.itools.task.listener.TaskListener;
+
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 
@@ -34,18 +36,38 @@ public class TaskRunnable implements Runnable {
      */
     private final Runnable task;
 
+    /**
+     * 执行监听器，为空时不计时
+     */
+    private final TaskListener listener;
+
+    /**
+     * 提交时间（纳秒），仅在有监听器时记录
+     */
+    private final long submitNanos;
+
     // 子线程异常
 
     public TaskRunnable(CountDownLatch childLatch, Runnable task) {
+        this(childLatch, task, null);
+    }
+
+    public TaskRunnable(CountDownLatch childLatch, Runnable task, TaskListener listener) {
         this.childLatch = childLatch;
         this.task = task;
+        this.listener = listener;
+        this.submitNanos = Objects.nonNull(listener) ? System.nanoTime() : 0L;
     }
 
     @Override
     public void run() {
         try {
             if (Objects.nonNull(task)) {
-                task.run();
+                if (Objects.isNull(listener)) {
+                    task.run();
+                } else {
+                    runWithListener();
+                }
             }
         }finally {
             if (Objects.nonNull(childLatch)) {
@@ -53,4 +75,16 @@ public class TaskRunnable implements Runnable {
             }
         }
     }
+
+    private void runWithListener() {
+        final long start = System.nanoTime();
+        listener.onStart(task, start - submitNanos);
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            listener.onFailure(task, System.nanoTime() - start, e);
+            throw e;
+        }
+        listener.onSuccess(task, System.nanoTime() - start);
+    }
 }
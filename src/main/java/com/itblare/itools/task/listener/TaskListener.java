@@ -0,0 +1,57 @@
+package com.itblare.itools.task.listener;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.listener
+ * ClassName:   TaskListener
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 14:00
+ * Description:    任务执行监听器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 14:00    1.0.0         任务执行监听器
+ */
+
+/**
+ * 任务执行监听器
+ * <p>
+ * 由 {@link com.itblare.itools.task.TaskRunnable} 在任务线程中回调，实现需线程安全且足够轻量，不应抛出异常。
+ * 未设置监听器时任务执行路径不做任何计时。
+ *
+ * @author Blare
+ * @create 2026/10/17 14:00
+ * @since 1.0.0
+ */
+public interface TaskListener {
+
+    /**
+     * 任务开始执行
+     *
+     * @param task           任务
+     * @param queueWaitNanos 从提交到开始执行的等待时间（纳秒）
+     * @method onStart
+     * @date 2026/10/17 14:02
+     */
+    void onStart(Runnable task, long queueWaitNanos);
+
+    /**
+     * 任务执行成功
+     *
+     * @param task     任务
+     * @param runNanos 执行时间（纳秒）
+     * @method onSuccess
+     * @date 2026/10/17 14:03
+     */
+    void onSuccess(Runnable task, long runNanos);
+
+    /**
+     * 任务执行失败
+     *
+     * @param task     任务
+     * @param runNanos 执行时间（纳秒）
+     * @param cause    异常
+     * @method onFailure
+     * @date 2026/10/17 14:04
+     */
+    void onFailure(Runnable task, long runNanos, Throwable cause);
+}
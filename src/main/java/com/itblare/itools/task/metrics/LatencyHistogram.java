@@ -0,0 +1,142 @@
+package com.itblare.itools.task.metrics;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.metrics
+ * ClassName:   LatencyHistogram
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 14:10
+ * Description:    无锁延迟直方图
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 14:10    1.0.0         无锁延迟直方图
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁延迟直方图
+ * <p>
+ * 对数-线性分桶：每个 2 的幂区间再线性分为 8 个子桶，相对误差不超过 12.5%，覆盖全部 long 范围，
+ * 记录一次只有一次数组自增，适合在任务线程中高频调用。分位数返回所在桶的上界。
+ *
+ * @author Blare
+ * @create 2026/10/17 14:10
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个 2 的幂区间的子桶位数
+     */
+    private static final int SUB_BITS = 3;
+
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    private static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一个值（负数按 0 处理）
+     *
+     * @param value 值
+     * @method record
+     * @date 2026/10/17 14:12
+     */
+    public void record(long value) {
+        final long v = Math.max(0L, value);
+        buckets.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        long current;
+        while (v > (current = max.get())) {
+            if (max.compareAndSet(current, v)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 分位数
+     *
+     * @param quantile 分位（0~1）
+     * @return {@link long}
+     * @method percentile
+     * @date 2026/10/17 14:14
+     */
+    public long percentile(double quantile) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (0L == total) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * total));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        final long c = count.sum();
+        return 0L == c ? 0.0 : (double) sum.sum() / c;
+    }
+
+    /**
+     * 清空
+     *
+     * @method reset
+     * @date 2026/10/17 14:16
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0L);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BITS) - 1;
+        final long sub = index & (SUB_COUNT - 1);
+        final long upper = (SUB_COUNT + sub + 1) << shift;
+        return upper <= 0 ? Long.MAX_VALUE : upper - 1;
+    }
+}
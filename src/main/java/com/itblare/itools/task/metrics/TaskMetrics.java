@@ -0,0 +1,134 @@
+package com.itblare.itools.task.metrics;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.metrics
+ * ClassName:   TaskMetrics
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 14:20
+ * Description:    任务执行指标
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 14:20    1.0.0         任务执行指标
+ */
+
+import com.itblare.itools.task.listener.TaskListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 任务执行指标
+ * <p>
+ * 汇总排队等待时间、执行时间直方图、当前/峰值并发数以及成功、失败数，可同时挂在多个处理器上：
+ * <pre>
+ * TaskMetrics metrics = new TaskMetrics();
+ * handler.setTaskListener(metrics);
+ * handler.run();
+ * LOGGER.info("{}", metrics);
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 14:20
+ * @since 1.0.0
+ */
+public class TaskMetrics implements TaskListener {
+
+    /**
+     * 排队等待时间
+     */
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    /**
+     * 执行时间
+     */
+    private final LatencyHistogram runTime = new LatencyHistogram();
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    private final LongAdder succeeded = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    @Override
+    public void onStart(Runnable task, long queueWaitNanos) {
+        queueWait.record(queueWaitNanos);
+        final int current = active.incrementAndGet();
+        int peak;
+        while (current > (peak = peakActive.get())) {
+            if (peakActive.compareAndSet(peak, current)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void onSuccess(Runnable task, long runNanos) {
+        active.decrementAndGet();
+        runTime.record(runNanos);
+        succeeded.increment();
+    }
+
+    @Override
+    public void onFailure(Runnable task, long runNanos, Throwable cause) {
+        active.decrementAndGet();
+        runTime.record(runNanos);
+        failed.increment();
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    public LatencyHistogram getRunTime() {
+        return runTime;
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getPeakActive() {
+        return peakActive.get();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 清空指标（当前并发数除外）
+     *
+     * @method reset
+     * @date 2026/10/17 14:26
+     */
+    public void reset() {
+        queueWait.reset();
+        runTime.reset();
+        peakActive.set(active.get());
+        succeeded.reset();
+        failed.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "TaskMetrics{" +
+            "succeeded=" + getSucceeded() +
+            ", failed=" + getFailed() +
+            ", active=" + getActive() +
+            ", peakActive=" + getPeakActive() +
+            ", queueWait(p50/p99/max us)=" + micros(queueWait.percentile(0.5)) + "/" + micros(queueWait.percentile(0.99)) + "/" + micros(queueWait.getMax()) +
+            ", runTime(p50/p99/max us)=" + micros(runTime.percentile(0.5)) + "/" + micros(runTime.percentile(0.99)) + "/" + micros(runTime.getMax()) +
+            '}';
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000L;
+    }
+}
@@ -0,0 +1,216 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   CronTrigger
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 16:05
+ * Description:    Cron 表达式触发器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 16:05    1.0.0         Cron 表达式触发器
+ */
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Cron 表达式触发器
+ * <p>
+ * 支持 5 段（分 时 日 月 周）或 6 段（秒 分 时 日 月 周）表达式，每段支持 {@code *}、{@code ?}、数值、
+ * 区间 {@code a-b}、步长 {@code *}{@code /n}、{@code a/n}、{@code a-b/n} 及逗号列表；月份与星期可用英文缩写，
+ * 星期 0 与 7 均表示周日。日与周同时限定时，按 Unix cron 约定取二者之一满足即可。
+ * <pre>
+ * new CronTrigger("0 3 * * *")         // 每天 03:00
+ * new CronTrigger("0 *&#47;15 * * * MON-FRI") // 工作日每 15 分钟
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 16:05
+ * @since 1.0.0
+ */
+public class CronTrigger implements Trigger {
+
+    private static final String[] MONTHS = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+
+    private static final String[] DAYS = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    /**
+     * 向后搜索的最大年数，超过则认为不会再触发（如 2 月 30 日）
+     */
+    private static final int MAX_SEARCH_YEARS = 5;
+
+    private final String expression;
+
+    private final ZoneId zone;
+
+    private final BitSet seconds;
+
+    private final BitSet minutes;
+
+    private final BitSet hours;
+
+    private final BitSet daysOfMonth;
+
+    private final BitSet months;
+
+    private final BitSet daysOfWeek;
+
+    private final boolean dayOfMonthRestricted;
+
+    private final boolean dayOfWeekRestricted;
+
+    public CronTrigger(String expression) {
+        this(expression, ZoneId.systemDefault());
+    }
+
+    public CronTrigger(String expression, ZoneId zone) {
+        this.expression = expression;
+        this.zone = zone;
+        final String[] fields = expression.trim().split("\\s+");
+        final int offset;
+        if (6 == fields.length) {
+            seconds = parse(fields[0], 0, 59, null);
+            offset = 1;
+        } else if (5 == fields.length) {
+            seconds = new BitSet();
+            seconds.set(0);
+            offset = 0;
+        } else {
+            throw new IllegalArgumentException("cron expression must have 5 or 6 fields: " + expression);
+        }
+        minutes = parse(fields[offset], 0, 59, null);
+        hours = parse(fields[offset + 1], 0, 23, null);
+        daysOfMonth = parse(fields[offset + 2], 1, 31, null);
+        months = parse(fields[offset + 3], 1, 12, MONTHS);
+        daysOfWeek = parse(fields[offset + 4], 0, 7, DAYS);
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+            daysOfWeek.clear(7);
+        }
+        dayOfMonthRestricted = !isWildcard(fields[offset + 2]);
+        dayOfWeekRestricted = !isWildcard(fields[offset + 4]);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public long nextFireTime(long lastScheduled, long lastCompleted) {
+        final long base = lastScheduled < 0 ? lastCompleted : lastScheduled;
+        return next(base);
+    }
+
+    @Override
+    public long skipMisfires(long missed, long now) {
+        return next(Math.max(missed, now - 1));
+    }
+
+    /**
+     * 严格晚于给定时间的下一次触发时间
+     *
+     * @param afterMillis 毫秒时间戳
+     * @return {@link long} 毫秒时间戳，不存在时返回 -1
+     * @method next
+     * @date 2026/10/17 16:20
+     */
+    public long next(long afterMillis) {
+        ZonedDateTime t = Instant.ofEpochMilli(afterMillis).atZone(zone).truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        final int limitYear = t.getYear() + MAX_SEARCH_YEARS;
+        while (t.getYear() <= limitYear) {
+            if (!months.get(t.getMonthValue())) {
+                t = t.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!dayMatches(t)) {
+                t = t.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!hours.get(t.getHour())) {
+                t = t.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!minutes.get(t.getMinute())) {
+                t = t.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+            } else if (!seconds.get(t.getSecond())) {
+                t = t.plusSeconds(1);
+            } else {
+                return t.toInstant().toEpochMilli();
+            }
+        }
+        return -1L;
+    }
+
+    private boolean dayMatches(ZonedDateTime t) {
+        final boolean dom = daysOfMonth.get(t.getDayOfMonth());
+        final boolean dow = daysOfWeek.get(t.getDayOfWeek().getValue() % 7);
+        if (dayOfMonthRestricted && dayOfWeekRestricted) {
+            return dom || dow;
+        }
+        return dom && dow;
+    }
+
+    private static boolean isWildcard(String field) {
+        return "*".equals(field) || "?".equals(field);
+    }
+
+    private static BitSet parse(String field, int min, int max, String[] names) {
+        final BitSet bits = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            final int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+                if (step <= 0) {
+                    throw new IllegalArgumentException("invalid step in cron field: " + field);
+                }
+            }
+            int from;
+            int to;
+            if ("*".equals(range) || "?".equals(range)) {
+                from = min;
+                to = max;
+            } else {
+                final int dash = range.indexOf('-');
+                if (dash > 0) {
+                    from = value(range.substring(0, dash), names, min);
+                    to = value(range.substring(dash + 1), names, min);
+                } else {
+                    from = value(range, names, min);
+                    // 形如 a/n 表示从 a 到最大值
+                    to = slash >= 0 ? max : from;
+                }
+            }
+            if (from < min || to > max || from > to) {
+                throw new IllegalArgumentException("cron field out of range [" + min + "-" + max + "]: " + field);
+            }
+            for (int i = from; i <= to; i += step) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static int value(String text, String[] names, int min) {
+        if (null != names) {
+            final String upper = text.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return i + min;
+                }
+            }
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cron value: " + text, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CronTrigger{" + expression + ", zone=" + zone + '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   FixedDelayTrigger
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 15:58
+ * Description:    固定延迟触发器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 15:58    1.0.0         固定延迟触发器
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 固定延迟触发器：上一次执行完成后间隔固定时间再触发
+ *
+ * @author Blare
+ * @create 2026/10/17 15:58
+ * @since 1.0.0
+ */
+public class FixedDelayTrigger implements Trigger {
+
+    private final long initialDelayMillis;
+
+    private final long delayMillis;
+
+    public FixedDelayTrigger(long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive: " + delay);
+        }
+        this.initialDelayMillis = Math.max(0L, unit.toMillis(initialDelay));
+        this.delayMillis = Math.max(1L, unit.toMillis(delay));
+    }
+
+    @Override
+    public long nextFireTime(long lastScheduled, long lastCompleted) {
+        return lastCompleted + (lastScheduled < 0 ? initialDelayMillis : delayMillis);
+    }
+}
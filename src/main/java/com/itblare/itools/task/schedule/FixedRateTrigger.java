@@ -0,0 +1,52 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   FixedRateTrigger
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 15:55
+ * Description:    固定频率触发器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 15:55    1.0.0         固定频率触发器
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 固定频率触发器：按计划时间等间隔触发，与执行耗时无关
+ *
+ * @author Blare
+ * @create 2026/10/17 15:55
+ * @since 1.0.0
+ */
+public class FixedRateTrigger implements Trigger {
+
+    private final long initialDelayMillis;
+
+    private final long periodMillis;
+
+    public FixedRateTrigger(long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.initialDelayMillis = Math.max(0L, unit.toMillis(initialDelay));
+        this.periodMillis = Math.max(1L, unit.toMillis(period));
+    }
+
+    @Override
+    public long nextFireTime(long lastScheduled, long lastCompleted) {
+        return lastScheduled < 0 ? lastCompleted + initialDelayMillis : lastScheduled + periodMillis;
+    }
+
+    @Override
+    public long skipMisfires(long missed, long now) {
+        if (missed >= now) {
+            return missed;
+        }
+        // 保持原有相位：不早于当前时间的第一个 missed + k * period
+        final long periods = (now - missed + periodMillis - 1) / periodMillis;
+        return missed + periods * periodMillis;
+    }
+}
@@ -0,0 +1,333 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   HashedWheelTimer
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 15:30
+ * Description:    哈希时间轮定时器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 15:30    1.0.0         哈希时间轮定时器
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 哈希时间轮定时器
+ * <p>
+ * 单个工作线程按固定刻度转动时间轮，新增与取消都是 O(1)，适合同时持有大量定时器（数万个以上）的场景，
+ * 代价是触发精度为一个刻度。到期任务在工作线程中直接执行，必须足够轻量，耗时逻辑应转交线程池
+ * （{@link TaskScheduler} 即如此）。
+ *
+ * @author Blare
+ * @create 2026/10/17 15:30
+ * @since 1.0.0
+ */
+public class HashedWheelTimer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final AtomicInteger INSTANCE_INDEX = new AtomicInteger();
+
+    private static final int STATE_INIT = 0;
+
+    private static final int STATE_STARTED = 1;
+
+    private static final int STATE_STOPPED = 2;
+
+    /**
+     * 刻度（纳秒）
+     */
+    private final long tickNanos;
+
+    /**
+     * 时间轮
+     */
+    private final Queue<WheelTimeout>[] wheel;
+
+    private final int mask;
+
+    /**
+     * 新增的定时器，由工作线程在每个刻度转入时间轮
+     */
+    private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+    private final Thread worker;
+
+    /**
+     * 时间轮启动时间（纳秒）
+     */
+    private volatile long startNanos;
+
+    public HashedWheelTimer() {
+        this(100, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * 构造时间轮
+     *
+     * @param tickDuration  刻度
+     * @param unit          刻度单位
+     * @param ticksPerWheel 每圈刻度数，向上取整为 2 的幂
+     */
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("invalid tickDuration or ticksPerWheel");
+        }
+        this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = (Queue<WheelTimeout>[]) new Queue<?>[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(this::work, "hashed-wheel-timer-" + INSTANCE_INDEX.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 新增定时器，首次调用时启动工作线程
+     * <p>
+     * 与 {@link #stop()} 并发时，定时器要么由 {@code stop()} 作为未执行任务返回（返回的句柄为已取消），
+     * 要么本方法抛出 {@link IllegalStateException}，不会静默丢失。
+     *
+     * @param task  到期执行的任务
+     * @param delay 延迟
+     * @param unit  延迟单位
+     * @return {@link Timeout}
+     * @throws IllegalStateException 时间轮已停止
+     * @method newTimeout
+     * @date 2026/10/17 15:40
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task);
+        start();
+        final long deadline = System.nanoTime() + Math.max(0L, unit.toNanos(delay)) - startNanos;
+        final WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pending.add(timeout);
+        // 入队后才停止的时间轮不会再处理该定时器；未被 stop() 取走时撤回并报告调用方
+        if (STATE_STOPPED == state.get() && timeout.cancel()) {
+            pending.remove(timeout);
+            throw new IllegalStateException("timer already stopped");
+        }
+        return timeout;
+    }
+
+    /**
+     * 停止时间轮
+     *
+     * @return {@link List} 尚未到期且未取消的任务
+     * @method stop
+     * @date 2026/10/17 15:42
+     */
+    public List<Runnable> stop() {
+        if (Thread.currentThread() == worker) {
+            throw new IllegalStateException("cannot stop the timer from a timer task");
+        }
+        if (!state.compareAndSet(STATE_STARTED, STATE_STOPPED)) {
+            state.set(STATE_STOPPED);
+            return new ArrayList<>();
+        }
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<Runnable> unprocessed = new ArrayList<>();
+        for (Queue<WheelTimeout> bucket : wheel) {
+            drainUnprocessed(bucket, unprocessed);
+        }
+        drainUnprocessed(pending, unprocessed);
+        return unprocessed;
+    }
+
+    private void start() {
+        switch (state.get()) {
+            case STATE_INIT:
+                if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+                    // 0 用作未启动标记
+                    final long now = System.nanoTime();
+                    startNanos = 0L == now ? 1L : now;
+                    worker.start();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("timer already stopped");
+        }
+        // 等待工作线程可见 startNanos
+        while (0L == startNanos) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void work() {
+        long tick = 0L;
+        while (STATE_STARTED == state.get()) {
+            final long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * 等待下一个刻度
+     *
+     * @return {@link long} 当前相对时间，被停止时返回 -1
+     */
+    private long waitForNextTick(long tick) {
+        final long deadline = tickNanos * (tick + 1);
+        while (true) {
+            final long current = System.nanoTime() - startNanos;
+            final long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (STATE_STOPPED == state.get()) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending(long tick) {
+        // 每个刻度最多转入 10 万个，避免新增过快时饿死到期处理
+        for (int i = 0; i < 100_000; i++) {
+            final WheelTimeout timeout = pending.poll();
+            if (Objects.isNull(timeout)) {
+                break;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            final long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            final long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<WheelTimeout> bucket, long now) {
+        for (int i = bucket.size(); i > 0; i--) {
+            final WheelTimeout timeout = bucket.poll();
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    private static void drainUnprocessed(Queue<WheelTimeout> queue, List<Runnable> unprocessed) {
+        WheelTimeout timeout;
+        while (Objects.nonNull(timeout = queue.poll())) {
+            // 以取消认领，与并发的 newTimeout 之间只有一方得到该任务
+            if (timeout.cancel()) {
+                unprocessed.add(timeout.task);
+            }
+        }
+    }
+
+    /**
+     * 定时器句柄
+     */
+    public interface Timeout {
+
+        /**
+         * 取消，已到期的取消无效
+         *
+         * @return {@link boolean} 是否由本次调用取消
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private static class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+
+        private static final int ST_CANCELLED = 1;
+
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+
+        /**
+         * 相对时间轮启动的到期时间（纳秒）
+         */
+        private final long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        /**
+         * 剩余圈数，仅工作线程访问
+         */
+        private long remainingRounds;
+
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            // 已取消的任务由工作线程在遍历时惰性移除
+            return state.compareAndSet(ST_INIT, ST_CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return ST_CANCELLED == state.get();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return ST_EXPIRED == state.get();
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOGGER.warn("时间轮任务执行异常", e);
+            }
+        }
+    }
+}
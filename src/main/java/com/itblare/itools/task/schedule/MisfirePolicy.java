@@ -0,0 +1,40 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   MisfirePolicy
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 16:00
+ * Description:    错过触发的处理策略
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 16:00    1.0.0         错过触发的处理策略
+ */
+
+/**
+ * 错过触发的处理策略
+ * <p>
+ * 计划触发时间已过去超过容忍阈值（执行超时、线程池繁忙、长时间 GC 等）即视为错过。
+ *
+ * @author Blare
+ * @create 2026/10/17 16:00
+ * @since 1.0.0
+ */
+public enum MisfirePolicy {
+
+    /**
+     * 立即补执行一次，之后以当前时间为基准继续
+     */
+    FIRE_ONCE_NOW,
+
+    /**
+     * 跳过所有错过的触发，等待下一个未来的触发时间
+     */
+    SKIP,
+
+    /**
+     * 逐个补执行所有错过的触发
+     */
+    CATCH_UP
+}
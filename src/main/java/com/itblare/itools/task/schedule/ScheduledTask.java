@@ -0,0 +1,76 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   ScheduledTask
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 16:30
+ * Description:    已调度任务句柄
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 16:30    1.0.0         已调度任务句柄
+ */
+
+/**
+ * 已调度任务句柄
+ *
+ * @author Blare
+ * @create 2026/10/17 16:30
+ * @since 1.0.0
+ */
+public interface ScheduledTask {
+
+    /**
+     * 取消后续触发，正在执行的一次不受影响
+     *
+     * @method cancel
+     * @date 2026/10/17 16:31
+     */
+    void cancel();
+
+    /**
+     * 是否已取消
+     *
+     * @return {@link boolean}
+     * @method isCancelled
+     * @date 2026/10/17 16:31
+     */
+    boolean isCancelled();
+
+    /**
+     * 是否已结束（取消或触发器不再触发）
+     *
+     * @return {@link boolean}
+     * @method isDone
+     * @date 2026/10/17 16:32
+     */
+    boolean isDone();
+
+    /**
+     * 下一次计划触发时间（毫秒时间戳），已结束时返回 -1
+     *
+     * @return {@link long}
+     * @method getNextFireTime
+     * @date 2026/10/17 16:32
+     */
+    long getNextFireTime();
+
+    /**
+     * 已执行次数
+     *
+     * @return {@link long}
+     * @method getExecutions
+     * @date 2026/10/17 16:33
+     */
+    long getExecutions();
+
+    /**
+     * 错过触发次数
+     *
+     * @return {@link long}
+     * @method getMisfires
+     * @date 2026/10/17 16:33
+     */
+    long getMisfires();
+}
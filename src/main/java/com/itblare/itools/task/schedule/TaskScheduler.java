@@ -0,0 +1,324 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   TaskScheduler
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 16:40
+ * Description:    定时任务调度器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 16:40    1.0.0         定时任务调度器
+ */
+
+import com.itblare.itools.task.TaskRunnable;
+import com.itblare.itools.task.listener.TaskListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 定时任务调度器
+ * <p>
+ * 定时由 {@link HashedWheelTimer} 负责，到期后交给线程池执行，执行经由 {@link TaskRunnable} 上报到
+ * {@link TaskListener}，与并行处理器共用同一套指标。同一个周期任务不会并发执行：下一次触发在本次执行结束后才计算，
+ * 若此时计划时间已过去超过错过阈值，则按 {@link MisfirePolicy} 处理。周期任务抛出异常只记录日志，不影响后续触发。
+ * <pre>
+ * TaskScheduler scheduler = new TaskScheduler();
+ * scheduler.scheduleAtFixedRate(this::refreshToken, 0, 10, TimeUnit.MINUTES);
+ * scheduler.schedule(this::sweepTempFiles, new CronTrigger("0 3 * * *"), MisfirePolicy.FIRE_ONCE_NOW);
+ * </pre>
+ *
+ * @author Blare
+ * @create 2026/10/17 16:40
+ * @since 1.0.0
+ */
+public class TaskScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskScheduler.class);
+
+    private static final AtomicInteger INSTANCE_INDEX = new AtomicInteger();
+
+    /**
+     * 默认错过阈值（毫秒）
+     */
+    private static final long DEFAULT_MISFIRE_THRESHOLD_MILLIS = 1_000L;
+
+    private final HashedWheelTimer timer;
+
+    private final ExecutorService service;
+
+    /**
+     * 是否由调度器创建并负责关闭线程池
+     */
+    private final boolean ownsService;
+
+    /**
+     * 计划时间过去超过该阈值即视为错过
+     */
+    private volatile long misfireThresholdMillis = DEFAULT_MISFIRE_THRESHOLD_MILLIS;
+
+    /**
+     * 任务执行监听器
+     */
+    private volatile TaskListener taskListener;
+
+    private volatile boolean shutdown;
+
+    public TaskScheduler() {
+        this(new HashedWheelTimer(), null);
+    }
+
+    /**
+     * 构造调度器
+     *
+     * @param timer   时间轮
+     * @param service 执行线程池，为空时创建守护线程的缓存线程池并在 {@link #shutdown()} 时关闭
+     */
+    public TaskScheduler(HashedWheelTimer timer, ExecutorService service) {
+        this.timer = Objects.requireNonNull(timer);
+        this.ownsService = Objects.isNull(service);
+        if (ownsService) {
+            final int index = INSTANCE_INDEX.incrementAndGet();
+            final AtomicInteger threadIndex = new AtomicInteger();
+            this.service = Executors.newCachedThreadPool(r -> {
+                final Thread thread = new Thread(r, "task-scheduler-" + index + "-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.service = service;
+        }
+    }
+
+    public long getMisfireThresholdMillis() {
+        return misfireThresholdMillis;
+    }
+
+    public void setMisfireThresholdMillis(long misfireThresholdMillis) {
+        this.misfireThresholdMillis = Math.max(0L, misfireThresholdMillis);
+    }
+
+    public TaskListener getTaskListener() {
+        return taskListener;
+    }
+
+    public void setTaskListener(TaskListener taskListener) {
+        this.taskListener = taskListener;
+    }
+
+    /**
+     * 延迟执行一次
+     *
+     * @param task  任务
+     * @param delay 延迟
+     * @param unit  时间单位
+     * @return {@link ScheduledTask}
+     * @method schedule
+     * @date 2026/10/17 16:50
+     */
+    public ScheduledTask schedule(Runnable task, long delay, TimeUnit unit) {
+        final long delayMillis = Math.max(0L, unit.toMillis(delay));
+        return schedule(task, (lastScheduled, lastCompleted) -> lastScheduled < 0 ? lastCompleted + delayMillis : -1L,
+            MisfirePolicy.FIRE_ONCE_NOW);
+    }
+
+    /**
+     * 固定频率执行
+     *
+     * @param task         任务
+     * @param initialDelay 首次延迟
+     * @param period       周期
+     * @param unit         时间单位
+     * @return {@link ScheduledTask}
+     * @method scheduleAtFixedRate
+     * @date 2026/10/17 16:51
+     */
+    public ScheduledTask scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return schedule(task, new FixedRateTrigger(initialDelay, period, unit), MisfirePolicy.FIRE_ONCE_NOW);
+    }
+
+    /**
+     * 固定延迟执行
+     *
+     * @param task         任务
+     * @param initialDelay 首次延迟
+     * @param delay        两次执行之间的间隔
+     * @param unit         时间单位
+     * @return {@link ScheduledTask}
+     * @method scheduleWithFixedDelay
+     * @date 2026/10/17 16:52
+     */
+    public ScheduledTask scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        return schedule(task, new FixedDelayTrigger(initialDelay, delay, unit), MisfirePolicy.FIRE_ONCE_NOW);
+    }
+
+    /**
+     * 按触发器执行
+     *
+     * @param task    任务
+     * @param trigger 触发器
+     * @param policy  错过触发的处理策略
+     * @return {@link ScheduledTask}
+     * @method schedule
+     * @date 2026/10/17 16:53
+     */
+    public ScheduledTask schedule(Runnable task, Trigger trigger, MisfirePolicy policy) {
+        if (shutdown) {
+            throw new RejectedExecutionException("scheduler already shut down");
+        }
+        final Job job = new Job(Objects.requireNonNull(task), Objects.requireNonNull(trigger), Objects.requireNonNull(policy));
+        job.scheduleNext(-1L, System.currentTimeMillis());
+        return job;
+    }
+
+    /**
+     * 关闭调度器：停止时间轮，并关闭自建的线程池
+     *
+     * @method shutdown
+     * @date 2026/10/17 16:55
+     */
+    public void shutdown() {
+        shutdown = true;
+        timer.stop();
+        if (ownsService) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * 周期任务
+     */
+    private class Job implements ScheduledTask, Runnable {
+
+        private final Runnable task;
+
+        private final Trigger trigger;
+
+        private final MisfirePolicy policy;
+
+        private final AtomicLong executions = new AtomicLong();
+
+        private final AtomicLong misfires = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        private volatile long nextFireTime = -1L;
+
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private Job(Runnable task, Trigger trigger, MisfirePolicy policy) {
+            this.task = task;
+            this.trigger = trigger;
+            this.policy = policy;
+        }
+
+        /**
+         * 计算并登记下一次触发
+         */
+        private void scheduleNext(long lastScheduled, long lastCompleted) {
+            if (cancelled || shutdown) {
+                nextFireTime = -1L;
+                return;
+            }
+            long next = trigger.nextFireTime(lastScheduled, lastCompleted);
+            final long now = System.currentTimeMillis();
+            if (next >= 0 && next < now - misfireThresholdMillis) {
+                misfires.incrementAndGet();
+                switch (policy) {
+                    case SKIP:
+                        next = trigger.skipMisfires(next, now);
+                        break;
+                    case FIRE_ONCE_NOW:
+                        next = now;
+                        break;
+                    default:
+                        // CATCH_UP：保留过去的计划时间，立即执行，后续依次补齐
+                        break;
+                }
+            }
+            nextFireTime = next;
+            if (next < 0) {
+                return;
+            }
+            try {
+                timeout = timer.newTimeout(this, Math.max(0L, next - now), TimeUnit.MILLISECONDS);
+            } catch (IllegalStateException e) {
+                // 调度器关闭与本次登记并发
+                nextFireTime = -1L;
+            }
+        }
+
+        /**
+         * 时间轮到期：转交线程池执行，避免阻塞时间轮线程
+         */
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            final long scheduled = nextFireTime;
+            final TaskRunnable runnable = new TaskRunnable(null, task, taskListener);
+            try {
+                service.execute(() -> execute(runnable, scheduled));
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("定时任务提交被拒绝，停止调度：{}", task, e);
+                nextFireTime = -1L;
+            }
+        }
+
+        private void execute(Runnable runnable, long scheduled) {
+            try {
+                runnable.run();
+            } catch (Throwable e) {
+                LOGGER.warn("定时任务执行异常：{}", task, e);
+            } finally {
+                executions.incrementAndGet();
+                scheduleNext(scheduled, System.currentTimeMillis());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            final HashedWheelTimer.Timeout current = timeout;
+            if (Objects.nonNull(current)) {
+                current.cancel();
+            }
+            nextFireTime = -1L;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled || nextFireTime < 0;
+        }
+
+        @Override
+        public long getNextFireTime() {
+            return nextFireTime;
+        }
+
+        @Override
+        public long getExecutions() {
+            return executions.get();
+        }
+
+        @Override
+        public long getMisfires() {
+            return misfires.get();
+        }
+    }
+}
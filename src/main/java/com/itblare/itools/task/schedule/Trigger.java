@@ -0,0 +1,50 @@
+package com.itblare.itools.task.schedule;
+/*
+ * Copyright (C), 2020-2026, 逝者如斯夫，不舍昼夜
+ * PackageName: com.itblare.itools.task.schedule
+ * ClassName:   Trigger
+ * Author:   Blare
+ * Date:     Created in 2026/10/17 15:50
+ * Description:    触发器
+ * History:
+ * <author>        <time>             <version>          <desc>
+ * 作者姓名         修改时间             版本号              描述
+ * Blare           2026/10/17 15:50    1.0.0         触发器
+ */
+
+/**
+ * 触发器：计算下一次触发时间
+ *
+ * @author Blare
+ * @create 2026/10/17 15:50
+ * @since 1.0.0
+ */
+public interface Trigger {
+
+    /**
+     * 计算下一次触发时间
+     *
+     * @param lastScheduled 上一次计划触发时间（毫秒时间戳），首次计算时为 -1
+     * @param lastCompleted 上一次执行完成时间（毫秒时间戳），首次计算时为调度开始时间
+     * @return {@link long} 下一次触发时间（毫秒时间戳），返回 -1 表示不再触发
+     * @method nextFireTime
+     * @date 2026/10/17 15:52
+     */
+    long nextFireTime(long lastScheduled, long lastCompleted);
+
+    /**
+     * 跳过错过的触发：返回错过的触发之后、不早于当前时间的第一个触发时间，供 {@link MisfirePolicy#SKIP} 使用。
+     * 默认实现只向后计算一次，结果仍早于当前时间时返回当前时间（立即触发一次）；
+     * 能直接定位的触发器应覆盖该方法，避免长时间停顿后逐个遍历错过的触发
+     *
+     * @param missed 错过的计划触发时间（毫秒时间戳）
+     * @param now    当前时间（毫秒时间戳）
+     * @return {@link long} 下一次触发时间（毫秒时间戳），返回 -1 表示不再触发
+     * @method skipMisfires
+     * @date 2026/10/18 19:20
+     */
+    default long skipMisfires(long missed, long now) {
+        final long next = nextFireTime(missed, now);
+        return next >= 0 && next < now ? now : next;
+    }
+}